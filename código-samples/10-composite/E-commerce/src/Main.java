@@ -1,3 +1,4 @@
+import composite.KitCompilado;
 import composite.KitDeVendavel;
 import interfaces.ItemVendavel;
 import leafs.Garantia;
@@ -44,10 +45,22 @@ public class Main {
         System.out.println("--- Calculando Total do Carrinho ---");
         for (ItemVendavel item : carrinho) {
             totalCarrinho += item.getPreco(); // O cliente não precisa saber o tipo do item!
+            System.out.println(item + " -> R$ " + item.getPreco());
             System.out.println("Subtotal parcial: R$ " + totalCarrinho);
             System.out.println("--------------------");
         }
 
         System.out.println("\nVALOR TOTAL DO CARRINHO: R$ " + totalCarrinho);
+
+        // Alterando o preço de um item lá no fundo da árvore: apenas os kits no
+        // caminho até a raiz (garantiaGamer e kitGamer) recalculam o subtotal.
+        garantiaMouse.setPreco(20.0);
+        System.out.println("\nNovo preço do " + kitGamer + ": R$ " + kitGamer.getPreco());
+
+        // Kit compilado: a árvore vira arrays e o preço é calculado em um laço simples.
+        KitCompilado kitGamerCompilado = new KitCompilado(kitGamer);
+        System.out.println("Preço do " + kitGamer + " (compilado): R$ " + kitGamerCompilado.getPreco());
+        headset.setPreco(380.00);
+        System.out.println("Após desconto no headset (compilado): R$ " + kitGamerCompilado.getPreco());
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package benchmark;
+
+import composite.CalculadoraDePrecoParalela;
+import composite.KitDeVendavel;
+import leafs.Garantia;
+import leafs.Produto;
+
+import java.util.function.Supplier;
+
+/**
+ * Compara o cálculo sequencial (getPreco) com a CalculadoraDePrecoParalela em
+ * uma árvore larga (um kit com muitos itens) e em uma árvore profunda (kits
+ * aninhados em vários níveis). Cada medição usa uma árvore recém-montada,
+ * para que o cache dos kits não interfira.
+ *
+ * Execução: java benchmark.BenchmarkPrecoParalelo
+ */
+public class BenchmarkPrecoParalelo {
+    private static final int RODADAS = 5;
+
+    public static void main(String[] args) {
+        CalculadoraDePrecoParalela calculadora = new CalculadoraDePrecoParalela();
+
+        medir("Larga (1 kit x 2.000.000 itens)", () -> montarKit(0, 1, 2_000_000), calculadora);
+        medir("Profunda (7 níveis x 5 kits, 8 itens por kit)", () -> montarKit(7, 5, 8), calculadora);
+    }
+
+    private static void medir(String nome, Supplier<KitDeVendavel> arvore,
+                              CalculadoraDePrecoParalela calculadora) {
+        long melhorSequencial = Long.MAX_VALUE;
+        long melhorParalelo = Long.MAX_VALUE;
+        double precoSequencial = 0;
+        double precoParalelo = 0;
+
+        for (int i = 0; i < RODADAS; i++) {
+            KitDeVendavel kit = arvore.get();
+            long inicio = System.nanoTime();
+            precoSequencial = kit.getPreco();
+            melhorSequencial = Math.min(melhorSequencial, System.nanoTime() - inicio);
+
+            kit = arvore.get();
+            inicio = System.nanoTime();
+            precoParalelo = calculadora.calcular(kit);
+            melhorParalelo = Math.min(melhorParalelo, System.nanoTime() - inicio);
+        }
+
+        System.out.println(nome + " - " + arvore.get().getQuantidadeDeItens() + " itens simples");
+        System.out.printf("  sequencial: %8.2f ms%n", melhorSequencial / 1e6);
+        System.out.printf("  paralelo:   %8.2f ms (%.1fx)%n", melhorParalelo / 1e6,
+                (double) melhorSequencial / melhorParalelo);
+        System.out.println("  resultados idênticos: " + (precoSequencial == precoParalelo));
+    }
+
+    // Monta um kit com 'kitsPorNivel' subkits por nível e 'itensPorKit' produtos/garantias em cada kit.
+    private static KitDeVendavel montarKit(int niveis, int kitsPorNivel, int itensPorKit) {
+        KitDeVendavel kit = new KitDeVendavel("Kit nível " + niveis);
+        for (int i = 0; i < itensPorKit; i++) {
+            if (i % 4 == 3) {
+                kit.adicionarItem(new Garantia("Garantia " + i, 9.9 + i % 7, 1 + i % 3));
+            } else {
+                kit.adicionarItem(new Produto("Produto " + i, 0.1 * (i % 1000) + 0.01));
+            }
+        }
+        if (niveis > 0) {
+            for (int i = 0; i < kitsPorNivel; i++) {
+                kit.adicionarItem(montarKit(niveis - 1, kitsPorNivel, itensPorKit));
+            }
+        }
+        return kit;
+    }
+}
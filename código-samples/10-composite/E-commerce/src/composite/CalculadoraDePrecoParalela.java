@@ -0,0 +1,122 @@
+package composite;
+
+import interfaces.ItemVendavel;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Calcula o preço de uma árvore de itens usando o ForkJoinPool.
+ * Subárvores grandes são divididas entre as threads do pool; abaixo do limiar
+ * o cálculo volta a ser o getPreco() sequencial de sempre.
+ *
+ * Os preços dos filhos de cada kit são somados na mesma ordem do cálculo
+ * sequencial, então o resultado é idêntico (inclusive nas casas decimais).
+ * A árvore não deve ser alterada enquanto o cálculo estiver em andamento.
+ */
+public class CalculadoraDePrecoParalela {
+    private static final int LIMIAR_PADRAO = 10_000;
+
+    private final ForkJoinPool pool;
+    private final int limiar;
+
+    public CalculadoraDePrecoParalela() {
+        this(ForkJoinPool.commonPool(), LIMIAR_PADRAO);
+    }
+
+    /**
+     * @param limiar quantidade de itens simples abaixo da qual o cálculo é sequencial
+     */
+    public CalculadoraDePrecoParalela(ForkJoinPool pool, int limiar) {
+        this.pool = pool;
+        this.limiar = limiar;
+    }
+
+    public double calcular(ItemVendavel item) {
+        if (!(item instanceof KitDeVendavel kit) || kit.getQuantidadeDeItens() <= limiar) {
+            return item.getPreco();
+        }
+        return pool.invoke(new CalculoDoKit(kit, limiar));
+    }
+
+    private static double calcularItem(ItemVendavel item, int limiar) {
+        if (item instanceof KitDeVendavel kit && kit.getQuantidadeDeItens() > limiar) {
+            return new CalculoDoKit(kit, limiar).invoke();
+        }
+        return item.getPreco();
+    }
+
+    // Calcula os filhos de um kit (possivelmente em paralelo) e soma na ordem original.
+    // As tarefas só existem dentro do pool e nunca são serializadas, então os campos não precisam ser.
+    @SuppressWarnings("serial")
+    private static class CalculoDoKit extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+
+        private final KitDeVendavel kit;
+        private final int limiar;
+
+        CalculoDoKit(KitDeVendavel kit, int limiar) {
+            this.kit = kit;
+            this.limiar = limiar;
+        }
+
+        @Override
+        protected Double compute() {
+            if (kit.temPrecoEmCache()) {
+                return kit.getPreco();
+            }
+            List<ItemVendavel> itens = kit.getItens();
+            double[] precos = new double[itens.size()];
+            // Itens simples acumulados até cada filho, para saber o tamanho de qualquer faixa em O(1).
+            long[] acumulado = new long[itens.size() + 1];
+            for (int i = 0; i < itens.size(); i++) {
+                acumulado[i + 1] = acumulado[i] + itens.get(i).getQuantidadeDeItens();
+            }
+            new CalculoDosItens(itens, acumulado, precos, 0, itens.size(), limiar).invoke();
+
+            double total = 0;
+            for (double precoDoItem : precos) {
+                total += precoDoItem;
+            }
+            kit.guardarPrecoEmCache(total);
+            return total;
+        }
+    }
+
+    // Divide a lista de filhos de um kit em faixas com aproximadamente o mesmo número de itens simples.
+    @SuppressWarnings("serial")
+    private static class CalculoDosItens extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<ItemVendavel> itens;
+        private final long[] acumulado;
+        private final double[] precos;
+        private final int inicio;
+        private final int fim;
+        private final int limiar;
+
+        CalculoDosItens(List<ItemVendavel> itens, long[] acumulado, double[] precos, int inicio, int fim, int limiar) {
+            this.itens = itens;
+            this.acumulado = acumulado;
+            this.precos = precos;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.limiar = limiar;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio > 1 && acumulado[fim] - acumulado[inicio] > limiar) {
+                int meio = (inicio + fim) >>> 1;
+                invokeAll(new CalculoDosItens(itens, acumulado, precos, inicio, meio, limiar),
+                        new CalculoDosItens(itens, acumulado, precos, meio, fim, limiar));
+                return;
+            }
+            for (int i = inicio; i < fim; i++) {
+                precos[i] = calcularItem(itens.get(i), limiar);
+            }
+        }
+    }
+}
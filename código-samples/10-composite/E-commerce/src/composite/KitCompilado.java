@@ -0,0 +1,120 @@
+package composite;
+
+import interfaces.ItemVendavel;
+import leafs.Garantia;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forma "compilada" de um KitDeVendavel: a árvore é achatada em arrays
+ * primitivos. Cada kit ocupa uma faixa contígua com os seus filhos diretos;
+ * um filho é um item simples (preço e multiplicador) ou a referência ao
+ * índice de um subkit. Calcular o preço vira laços simples sobre arrays, sem
+ * chamadas de interface nem ponteiros entre objetos.
+ *
+ * Os subtotais são somados kit a kit, com os filhos na mesma ordem da árvore,
+ * então o resultado é idêntico ao getPreco() do kit, inclusive nas casas
+ * decimais. Se o kit original for alterado, a forma compilada é refeita
+ * automaticamente no próximo cálculo.
+ */
+public class KitCompilado {
+    private static final int NENHUM = -1;
+
+    private final KitDeVendavel kit;
+
+    private long versaoCompilada;
+    // Um elemento por filho direto de cada kit.
+    private double[] precos;
+    private int[] multiplicadores;
+    private int[] subkit;
+    // Filhos do kit k: faixa [inicioDoKit[k], fimDoKit[k]). Os kits são numerados
+    // na ordem de uma busca em profundidade, então um subkit sempre tem índice maior que o seu kit.
+    private int[] inicioDoKit;
+    private int[] fimDoKit;
+    private double[] subtotais;
+
+    public KitCompilado(KitDeVendavel kit) {
+        this.kit = kit;
+        compilar();
+    }
+
+    public double getPreco() {
+        return getPrecoDoKit(0);
+    }
+
+    /**
+     * Preço do k-ésimo kit, na ordem em que aparecem na árvore (0 é o próprio kit).
+     */
+    public double getPrecoDoKit(int indiceDoKit) {
+        if (kit.getVersao() != versaoCompilada) {
+            compilar();
+        }
+        // Do último kit para o primeiro: os subkits já estão somados quando o kit acima precisa deles.
+        for (int k = inicioDoKit.length - 1; k >= indiceDoKit; k--) {
+            double total = 0;
+            for (int i = inicioDoKit[k], fim = fimDoKit[k]; i < fim; i++) {
+                total += subkit[i] == NENHUM ? precos[i] * multiplicadores[i] : subtotais[subkit[i]];
+            }
+            subtotais[k] = total;
+        }
+        return subtotais[indiceDoKit];
+    }
+
+    public int getQuantidadeDeKits() {
+        return inicioDoKit.length;
+    }
+
+    private void compilar() {
+        // Deixa o cache do kit válido para que qualquer alteração posterior mude a versão.
+        kit.getPreco();
+        versaoCompilada = kit.getVersao();
+
+        List<KitDeVendavel> kits = new ArrayList<>();
+        Map<KitDeVendavel, Integer> indices = new IdentityHashMap<>();
+        numerar(kit, kits, indices);
+
+        inicioDoKit = new int[kits.size()];
+        fimDoKit = new int[kits.size()];
+        int posicao = 0;
+        for (int k = 0; k < kits.size(); k++) {
+            inicioDoKit[k] = posicao;
+            posicao += kits.get(k).getItens().size();
+            fimDoKit[k] = posicao;
+        }
+
+        precos = new double[posicao];
+        multiplicadores = new int[posicao];
+        subkit = new int[posicao];
+        subtotais = new double[kits.size()];
+        for (int k = 0; k < kits.size(); k++) {
+            int i = inicioDoKit[k];
+            for (ItemVendavel item : kits.get(k).getItens()) {
+                subkit[i] = NENHUM;
+                if (item instanceof KitDeVendavel filho) {
+                    subkit[i] = indices.get(filho);
+                } else if (item instanceof Garantia garantia) {
+                    precos[i] = garantia.getPrecoPorAno();
+                    multiplicadores[i] = garantia.getAnos();
+                } else {
+                    precos[i] = item.getPreco();
+                    multiplicadores[i] = 1;
+                }
+                i++;
+            }
+        }
+    }
+
+    // Lista os kits em pré-ordem: o kit, depois cada subkit com tudo o que há abaixo dele.
+    private static void numerar(KitDeVendavel atual, List<KitDeVendavel> kits, Map<KitDeVendavel, Integer> indices) {
+        indices.put(atual, kits.size());
+        kits.add(atual);
+        for (ItemVendavel item : atual.getItens()) {
+            if (item instanceof KitDeVendavel filho) {
+                numerar(filho, kits, indices);
+            }
+        }
+    }
+}
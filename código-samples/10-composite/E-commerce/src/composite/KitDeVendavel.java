@@ -3,28 +3,111 @@ package composite;
 import interfaces.ItemVendavel;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-public class KitDeVendavel implements ItemVendavel {
+public class KitDeVendavel extends ItemVendavel {
     private String nomeDoKit;
     private List<ItemVendavel> itens = new ArrayList<>();
 
+    // Subtotal memorizado; só é recalculado depois que algo abaixo do kit muda.
+    private double precoEmCache;
+    private boolean precoValido;
+    private int quantidadeDeItens;
+    // Muda sempre que algo abaixo do kit muda depois de um cálculo; usado pelo KitCompilado.
+    private long versao;
+
     public KitDeVendavel(String nomeDoKit) {
         this.nomeDoKit = nomeDoKit;
     }
 
+    /**
+     * Adiciona o item ao kit. O cache de preço depende de cada item conhecer o
+     * seu kit, então um item que já está em outro kit é recusado: remova-o de
+     * lá antes (ou crie outra instância). Também é recusado o próprio kit ou
+     * qualquer kit acima dele, que fecharia um ciclo na árvore.
+     */
     public void adicionarItem(ItemVendavel item) {
+        if (item == this) {
+            throw new IllegalArgumentException("Um kit não pode conter a si mesmo.");
+        }
+        for (ItemVendavel acima = getPai(); acima != null; acima = acima.getPai()) {
+            if (acima == item) {
+                throw new IllegalArgumentException("O kit '" + item + "' contém " + this + " e não pode ficar dentro dele.");
+            }
+        }
+        if (item.getPai() != null) {
+            throw new IllegalArgumentException("O item '" + item + "' já pertence a " + item.getPai() + ".");
+        }
         itens.add(item);
+        definirPai(item, this);
+        quantidadeDeItensAlterada(item.getQuantidadeDeItens());
+        precoAlterado();
+    }
+
+    public void removerItem(ItemVendavel item) {
+        if (itens.remove(item)) {
+            definirPai(item, null);
+            quantidadeDeItensAlterada(-item.getQuantidadeDeItens());
+            precoAlterado();
+        }
     }
 
     @Override
     public double getPreco() {
-        System.out.println("Calculando preço do kit: " + nomeDoKit);
-        // A mágica da recursão: delega o cálculo para os filhos.
-        double precoTotal = 0;
-        for (ItemVendavel item : itens) {
-            precoTotal += item.getPreco();
+        if (!precoValido) {
+            // A mágica da recursão: delega o cálculo para os filhos.
+            double precoTotal = 0;
+            for (ItemVendavel item : itens) {
+                precoTotal += item.getPreco();
+            }
+            precoEmCache = precoTotal;
+            precoValido = true;
+        }
+        return precoEmCache;
+    }
+
+    public List<ItemVendavel> getItens() {
+        return Collections.unmodifiableList(itens);
+    }
+
+    // Usados pela CalculadoraDePrecoParalela para aproveitar e preencher o cache.
+    boolean temPrecoEmCache() {
+        return precoValido;
+    }
+
+    void guardarPrecoEmCache(double preco) {
+        precoEmCache = preco;
+        precoValido = true;
+    }
+
+    long getVersao() {
+        return versao;
+    }
+
+    @Override
+    protected void precoAlterado() {
+        // Se o cache já estava inválido, os kits acima também estão: não precisa subir de novo.
+        if (precoValido) {
+            precoValido = false;
+            versao++;
+            avisarPaiDoPreco();
         }
-        return precoTotal;
+    }
+
+    @Override
+    public int getQuantidadeDeItens() {
+        return quantidadeDeItens;
+    }
+
+    @Override
+    protected void quantidadeDeItensAlterada(int diferenca) {
+        quantidadeDeItens += diferenca;
+        avisarPaiDaQuantidade(diferenca);
+    }
+
+    @Override
+    public String toString() {
+        return "Kit: " + nomeDoKit;
     }
 }
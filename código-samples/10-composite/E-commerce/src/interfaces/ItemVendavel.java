@@ -1,7 +1,53 @@
 package interfaces;
 
-public interface ItemVendavel {
+/**
+ * Item que pode ser vendido sozinho ou dentro de um kit.
+ *
+ * É uma classe abstrata, e não uma interface, para que o vínculo com o kit e
+ * os avisos de mudança não façam parte da API pública: só as subclasses mexem
+ * neles, e quem usa o item não consegue corromper a árvore.
+ */
+public abstract class ItemVendavel {
 
-    double getPreco();
+    // Kit que contém este item, ou null. Um item pertence a no máximo um kit.
+    private ItemVendavel pai;
+
+    public abstract double getPreco();
+
+    public final ItemVendavel getPai() {
+        return pai;
+    }
+
+    // Quantidade de itens simples (folhas) abaixo deste item; usada para decidir como dividir o cálculo.
+    public int getQuantidadeDeItens() {
+        return 1;
+    }
+
+    // Registra o kit que contém o item, para que mudanças de preço subam pela árvore. Usado só pelos kits.
+    protected static void definirPai(ItemVendavel item, ItemVendavel pai) {
+        item.pai = pai;
+    }
+
+    // Avisa o kit acima que o preço deste item mudou: só o caminho até a raiz precisa recalcular.
+    protected final void avisarPaiDoPreco() {
+        if (pai != null) {
+            pai.precoAlterado();
+        }
+    }
+
+    // Avisa o kit acima que itens foram incluídos ou retirados abaixo deste item.
+    protected final void avisarPaiDaQuantidade(int diferenca) {
+        if (pai != null) {
+            pai.quantidadeDeItensAlterada(diferenca);
+        }
+    }
+
+    // Avisa que o preço de algo abaixo deste item mudou. Folhas não guardam cache, então não fazem nada.
+    protected void precoAlterado() {
+    }
+
+    // Avisa que itens foram incluídos ou retirados abaixo deste item.
+    protected void quantidadeDeItensAlterada(int diferenca) {
+    }
 
 }
@@ -2,7 +2,7 @@ package leafs;
 
 import interfaces.ItemVendavel;
 
-public class Garantia implements ItemVendavel {
+public class Garantia extends ItemVendavel {
 
     private String nome;
     private double preco;
@@ -16,7 +16,30 @@ public class Garantia implements ItemVendavel {
 
     @Override
     public double getPreco() {
-        System.out.println("Calculando preço da garantia: " + nome + " (R$ " + preco + ") para cada " + anos + " anos");
         return this.anos * this.preco;
     }
+
+    // Preço de cada ano de garantia, sem multiplicar pelos anos.
+    public double getPrecoPorAno() {
+        return this.preco;
+    }
+
+    public int getAnos() {
+        return this.anos;
+    }
+
+    public void setPreco(double preco) {
+        this.preco = preco;
+        avisarPaiDoPreco();
+    }
+
+    public void setAnos(int anos) {
+        this.anos = anos;
+        avisarPaiDoPreco();
+    }
+
+    @Override
+    public String toString() {
+        return "Garantia: " + nome + " (R$ " + preco + ") para cada " + anos + " anos";
+    }
 }
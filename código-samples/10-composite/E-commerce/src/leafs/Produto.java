@@ -2,7 +2,7 @@ package leafs;
 
 import interfaces.ItemVendavel;
 
-public class Produto implements ItemVendavel {
+public class Produto extends ItemVendavel {
 
     private String nome;
     private double preco;
@@ -14,7 +14,16 @@ public class Produto implements ItemVendavel {
 
     @Override
     public double getPreco() {
-        System.out.println("Calculando preço do produto: " + nome + " (R$ " + preco + ")");
         return this.preco;
     }
+
+    public void setPreco(double preco) {
+        this.preco = preco;
+        avisarPaiDoPreco();
+    }
+
+    @Override
+    public String toString() {
+        return "Produto: " + nome + " (R$ " + preco + ")";
+    }
 }
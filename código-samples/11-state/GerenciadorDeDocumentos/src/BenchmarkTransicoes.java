@@ -0,0 +1,73 @@
+import com.sun.management.ThreadMXBean;
+import estados.Evento;
+import model.Documento;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.function.Consumer;
+
+/**
+ * Mede bytes alocados e tempo por transição de estado, levando cada documento
+ * de rascunho a publicado. Os documentos são criados antes da medição, então
+ * só as transições entram na conta.
+ * - Objetos de estado: revisar()/publicar() com os estados compartilhados.
+ *   As mensagens vão para uma saída descartada; a linha "Só as mensagens"
+ *   imprime as mesmas duas mensagens sem mudar de estado, para separar o que o
+ *   PrintStream aloca do que as transições alocam.
+ * - Tabela: aplicar(Evento), que consulta a matriz (situação, evento).
+ *
+ * Execução: java BenchmarkTransicoes [documentos]
+ */
+public class BenchmarkTransicoes {
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        int documentos = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        PrintStream saidaOriginal = System.out;
+
+        for (int rodada = 0; rodada < 3; rodada++) {
+            Documento[] docs = criar(documentos);
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            String mensagens = medir("Só as mensagens  ", docs, doc -> {
+                System.out.println("Enviando para revisão...");
+                System.out.println("Publicando o documento...");
+            });
+            String estados = medir("Objetos de estado", docs, doc -> {
+                doc.revisar();
+                doc.publicar();
+            });
+            System.setOut(saidaOriginal);
+            System.out.println(mensagens);
+            System.out.println(estados);
+
+            docs = criar(documentos);
+            System.out.println(medir("Tabela           ", docs, doc -> {
+                doc.aplicar(Evento.REVISAR);
+                doc.aplicar(Evento.PUBLICAR);
+            }));
+        }
+    }
+
+    private static Documento[] criar(int quantidade) {
+        Documento[] docs = new Documento[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            docs[i] = new Documento();
+        }
+        return docs;
+    }
+
+    private static String medir(String nome, Documento[] docs, Consumer<Documento> fluxo) {
+        long threadId = Thread.currentThread().threadId();
+        long bytesAntes = THREADS.getThreadAllocatedBytes(threadId);
+        long inicio = System.nanoTime();
+        for (Documento doc : docs) {
+            fluxo.accept(doc);
+        }
+        long duracao = System.nanoTime() - inicio;
+        long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesAntes;
+        long transicoes = 2L * docs.length;
+        return String.format("%s: %5.2f bytes/transição, %6.1f ns/transição",
+                nome, (double) bytes / transicoes, (double) duracao / transicoes);
+    }
+}
@@ -6,4 +6,11 @@ public interface EstadoDocumento {
     void editar(Documento doc, String conteudo);
     void revisar(Documento doc);
     void publicar(Documento doc);
-}
\ No newline at end of file
+
+    // Em qual situação da tabela de transições este estado está.
+    Situacao getSituacao();
+
+    // Para qual situação o evento leva a partir deste estado; nulo se não é permitido.
+    // É a única definição das regras: as transições acima e a TabelaDeTransicoes a usam.
+    Situacao proxima(Evento evento);
+}
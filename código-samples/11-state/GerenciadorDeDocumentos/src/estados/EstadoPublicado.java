@@ -2,7 +2,12 @@ package estados;
 
 import model.Documento;
 
-public class EstadoPublicado implements EstadoDocumento {
+public final class EstadoPublicado implements EstadoDocumento {
+    public static final EstadoPublicado INSTANCIA = new EstadoPublicado();
+
+    private EstadoPublicado() {
+    }
+
     @Override
     public void editar(Documento doc, String conteudo) {
         System.out.println("Ação inválida: Não é possível editar um documento publicado.");
@@ -17,4 +22,14 @@ public class EstadoPublicado implements EstadoDocumento {
     public void publicar(Documento doc) {
         System.out.println("Aviso: O documento já está publicado.");
     }
+
+    @Override
+    public Situacao getSituacao() {
+        return Situacao.PUBLICADO;
+    }
+
+    @Override
+    public Situacao proxima(Evento evento) {
+        return null; // Estado final.
+    }
 }
@@ -3,7 +3,12 @@ package estados;
 import model.Documento;
 
 // Um Estado Concreto: implementa o comportamento associado a um estado do Contexto.
-public class EstadoRascunho implements EstadoDocumento {
+// Não guarda nada por documento, então uma única instância serve a todos (Flyweight).
+public final class EstadoRascunho implements EstadoDocumento {
+    public static final EstadoRascunho INSTANCIA = new EstadoRascunho();
+
+    private EstadoRascunho() {
+    }
 
     public void editar(Documento doc, String conteudo) {
         doc.setConteudo(conteudo);
@@ -12,12 +17,20 @@ public class EstadoRascunho implements EstadoDocumento {
 
     public void revisar(Documento doc) {
         System.out.println("Enviando para revisão...");
-        doc.mudarEstado(new EstadoRevisao()); // Transição para o próximo estado!
+        doc.mudarEstado(proxima(Evento.REVISAR).getEstado()); // Transição para o próximo estado!
     }
 
     public void publicar(Documento doc) {
         System.out.println("Ação inválida: Um rascunho não pode ser publicado diretamente.");
     }
+
+    public Situacao getSituacao() {
+        return Situacao.RASCUNHO;
+    }
+
+    public Situacao proxima(Evento evento) {
+        return evento == Evento.REVISAR ? Situacao.REVISAO : null;
+    }
 }
 
 
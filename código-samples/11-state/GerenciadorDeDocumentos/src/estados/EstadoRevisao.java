@@ -2,7 +2,12 @@ package estados;
 
 import model.Documento;
 
-public class EstadoRevisao implements EstadoDocumento {
+public final class EstadoRevisao implements EstadoDocumento {
+    public static final EstadoRevisao INSTANCIA = new EstadoRevisao();
+
+    private EstadoRevisao() {
+    }
+
     @Override
     public void editar(Documento doc, String conteudo) {
         System.out.println("Ação inválida: Não é possível editar um documento em revisão.");
@@ -16,6 +21,16 @@ public class EstadoRevisao implements EstadoDocumento {
     @Override
     public void publicar(Documento doc) {
         System.out.println("Publicando o documento...");
-        doc.mudarEstado(new EstadoPublicado()); // Transição para o próximo estado!
+        doc.mudarEstado(proxima(Evento.PUBLICAR).getEstado()); // Transição para o próximo estado!
+    }
+
+    @Override
+    public Situacao getSituacao() {
+        return Situacao.REVISAO;
+    }
+
+    @Override
+    public Situacao proxima(Evento evento) {
+        return evento == Evento.PUBLICAR ? Situacao.PUBLICADO : null;
     }
 }
@@ -0,0 +1,8 @@
+package estados;
+
+// As ações que mudam a situação de um documento. Editar não muda a situação e
+// precisa do conteúdo novo, então fica só em Documento.editar(String).
+public enum Evento {
+    REVISAR,
+    PUBLICAR
+}
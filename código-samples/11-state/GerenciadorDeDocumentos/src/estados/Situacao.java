@@ -0,0 +1,18 @@
+package estados;
+
+// As situações possíveis de um documento, cada uma ligada ao seu objeto de estado compartilhado.
+public enum Situacao {
+    RASCUNHO(EstadoRascunho.INSTANCIA),
+    REVISAO(EstadoRevisao.INSTANCIA),
+    PUBLICADO(EstadoPublicado.INSTANCIA);
+
+    private final EstadoDocumento estado;
+
+    Situacao(EstadoDocumento estado) {
+        this.estado = estado;
+    }
+
+    public EstadoDocumento getEstado() {
+        return estado;
+    }
+}
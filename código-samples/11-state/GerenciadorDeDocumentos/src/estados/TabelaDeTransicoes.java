@@ -0,0 +1,33 @@
+package estados;
+
+/**
+ * As regras dos objetos de estado copiadas para uma matriz
+ * (situação, evento) -> próxima situação. Uma transição é só a leitura de um
+ * array, sem chamada virtual. A matriz é montada a partir de
+ * EstadoDocumento.proxima, então as duas formas nunca divergem.
+ * Nulo significa que o evento não é permitido naquela situação.
+ */
+public final class TabelaDeTransicoes {
+    private static final int EVENTOS = Evento.values().length;
+
+    private static final Situacao[] TABELA = new Situacao[Situacao.values().length * EVENTOS];
+
+    static {
+        for (Situacao de : Situacao.values()) {
+            for (Evento evento : Evento.values()) {
+                TABELA[de.ordinal() * EVENTOS + evento.ordinal()] = de.getEstado().proxima(evento);
+            }
+        }
+    }
+
+    private TabelaDeTransicoes() {
+    }
+
+    public static Situacao proxima(Situacao atual, Evento evento) {
+        return TABELA[atual.ordinal() * EVENTOS + evento.ordinal()];
+    }
+
+    public static boolean permitido(Situacao atual, Evento evento) {
+        return proxima(atual, evento) != null;
+    }
+}
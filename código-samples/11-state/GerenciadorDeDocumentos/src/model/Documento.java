@@ -1,34 +1,57 @@
 package model;
 
 import estados.EstadoDocumento;
-import estados.EstadoRascunho;
+import estados.Evento;
+import estados.Situacao;
+import estados.TabelaDeTransicoes;
 
 public class Documento {
-    private EstadoDocumento estadoAtual;
+    // Guarda a situação, e não o objeto de estado: o modo por tabela a lê direto
+    // do campo e cada situação já conhece o seu estado compartilhado.
+    private Situacao situacao;
     private String conteudo;
 
     public Documento() {
         // O estado inicial é definido aqui
-        this.estadoAtual = new EstadoRascunho();
+        this.situacao = Situacao.RASCUNHO;
     }
 
     // O contexto permite que os objetos de estado mudem o seu estado.
     public void mudarEstado(EstadoDocumento novoEstado) {
-        this.estadoAtual = novoEstado;
+        this.situacao = novoEstado.getSituacao();
     }
 
     public void setConteudo(String conteudo) { this.conteudo = conteudo; }
 
     // O contexto delega o comportamento para o objeto de estado atual.
     public void editar(String novoConteudo) {
-        estadoAtual.editar(this, novoConteudo);
+        situacao.getEstado().editar(this, novoConteudo);
     }
 
     public void revisar() {
-        estadoAtual.revisar(this);
+        situacao.getEstado().revisar(this);
     }
 
     public void publicar() {
-        estadoAtual.publicar(this);
+        situacao.getEstado().publicar(this);
+    }
+
+    public Situacao getSituacao() {
+        return situacao;
+    }
+
+    /**
+     * Modo por tabela: consulta a matriz (situação, evento) em vez de chamar o
+     * objeto de estado. Não imprime mensagens; devolve false, sem mudar de
+     * estado, se o evento não é permitido na situação atual. Editar não é um
+     * evento da tabela: use editar(String).
+     */
+    public boolean aplicar(Evento evento) {
+        Situacao proxima = TabelaDeTransicoes.proxima(situacao, evento);
+        if (proxima == null) {
+            return false;
+        }
+        this.situacao = proxima;
+        return true;
     }
 }
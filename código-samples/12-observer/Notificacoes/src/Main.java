@@ -1,20 +1,30 @@
+import barramento.BarramentoDeEventos;
+import indice.IndiceDeAssinaturas;
 import observers.Cliente;
+import subjetcs.Inscricao;
 import subjetcs.Produto;
 
+import java.time.Duration;
+
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         // 1. Criar o Assunto (o produto que será observado)
         Produto ps5 = new Produto("PlayStation 5");
 
         // 2. Criar os Observadores (os clientes interessados)
         Cliente cliente1 = new Cliente("João");
         Cliente cliente2 = new Cliente("Maria");
+        Cliente cliente3 = new Cliente("Pedro");
 
         // 3. Registrar os observadores no assunto
         ps5.anexar(cliente1);
         ps5.anexar(cliente2);
+        Inscricao inscricaoPedro = ps5.anexar(cliente3);
+
+        // Pedro desiste: cancelar pela inscrição não percorre a lista de observadores.
+        inscricaoPedro.cancelar();
 
         System.out.println("Situação inicial: Estoque zerado.");
         ps5.setEstoque(0);
@@ -23,5 +33,38 @@ public class Main {
 
         // 4. Mudar o estado do Assunto. Isso deve disparar a notificação.
         ps5.setEstoque(10);
+
+        // 5. Modo barramento: setEstoque só publica o evento; os clientes são avisados por outras threads.
+        System.out.println("\n--- Com barramento de eventos ---");
+        try (BarramentoDeEventos barramento = new BarramentoDeEventos(1024, 2)) {
+            Produto xbox = new Produto("Xbox Series X", barramento);
+            xbox.anexar(cliente1);
+            xbox.anexar(cliente2);
+            xbox.setEstoque(5);
+            System.out.println("Estoque atualizado sem esperar os clientes.");
+        }
+
+        // 6. Índice central: uma atualização de inventário com vários produtos gera um aviso por cliente.
+        System.out.println("\n--- Com índice de assinaturas ---");
+        IndiceDeAssinaturas indice = new IndiceDeAssinaturas();
+        indice.cadastrarProduto(1L, "PlayStation 5");
+        indice.cadastrarProduto(2L, "Xbox Series X");
+        indice.cadastrarProduto(3L, "Nintendo Switch");
+        indice.inscrever(1L, cliente1);
+        indice.inscrever(2L, cliente1);
+        indice.inscrever(3L, cliente2);
+        indice.notificarReposicoes(new long[]{1L, 2L, 3L});
+
+        // 7. Janela de agrupamento: o estoque oscila entre 0 e 1, mas os clientes recebem um único aviso.
+        System.out.println("\n--- Com janela de agrupamento ---");
+        Produto switch2 = new Produto("Nintendo Switch 2");
+        switch2.setJanelaDeAgrupamento(Duration.ofMillis(200));
+        switch2.anexar(cliente1);
+        for (int i = 0; i < 5; i++) {
+            switch2.repor(1);
+            switch2.reservar(1);
+        }
+        switch2.repor(1);
+        Thread.sleep(400);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,220 @@
+package barramento;
+
+import observers.Observador;
+import subjetcs.RegistroDeObservadores;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Entrega assíncrona dos avisos de reposição, no estilo de um disruptor.
+ *
+ * Os eventos publicados vão para um anel de tamanho fixo (memória limitada) e
+ * quem publica volta imediatamente. Cada trabalhador tem seu próprio cursor no
+ * anel e atende um subconjunto fixo de assinantes, escolhido pela identidade
+ * do observador: um assinante é sempre atendido pela mesma thread, então
+ * recebe os eventos na ordem em que foram publicados, mesmo de produtos diferentes.
+ * Os assinantes de cada evento são os do momento da publicação, já separados
+ * por trabalhador; quem se inscreve depois não recebe avisos antigos.
+ * Sem eventos, os trabalhadores ficam parados até a próxima publicação.
+ *
+ * Se o trabalhador mais atrasado estiver uma volta inteira atrás, o anel está
+ * cheio e o novo evento é descartado (nunca bloqueia quem publica). Descartes e
+ * assinantes que passam do limite de tempo são informados ao ouvinte. Depois de
+ * close(), novas publicações são descartadas em silêncio.
+ */
+public class BarramentoDeEventos implements AutoCloseable {
+    private static final class Evento {
+        final String nomeProduto;
+        // Assinantes no momento da publicação; a linha i é a do trabalhador i.
+        final Observador[][] porTrabalhador;
+
+        Evento(String nomeProduto, Observador[][] porTrabalhador) {
+            this.nomeProduto = nomeProduto;
+            this.porTrabalhador = porTrabalhador;
+        }
+    }
+
+    private final Evento[] anel;
+    private final int mascara;
+    private final Trabalhador[] trabalhadores;
+    private final long limiteLentoNanos;
+    private final OuvinteDoBarramento ouvinte;
+
+    // Último evento publicado e estado do barramento; escritos só com o lock de this.
+    private volatile long cursor = -1;
+    private volatile boolean aberto = true;
+
+    private final LongAdder publicados = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder entregues = new LongAdder();
+    private final LongAdder entregasLentas = new LongAdder();
+
+    public BarramentoDeEventos(int capacidade, int quantidadeDeTrabalhadores) {
+        this(capacidade, quantidadeDeTrabalhadores, Duration.ofMillis(100), OuvinteDoBarramento.REGISTRAR_NO_CONSOLE);
+    }
+
+    /**
+     * @param capacidade  número de eventos no anel; arredondado para a próxima potência de 2
+     * @param limiteLento tempo a partir do qual uma chamada a atualizar é informada como lenta
+     */
+    public BarramentoDeEventos(int capacidade, int quantidadeDeTrabalhadores, Duration limiteLento, OuvinteDoBarramento ouvinte) {
+        if (capacidade <= 0 || quantidadeDeTrabalhadores <= 0) {
+            throw new IllegalArgumentException("Capacidade e número de trabalhadores devem ser positivos.");
+        }
+        int tamanho = Integer.highestOneBit(capacidade);
+        if (tamanho < capacidade) {
+            tamanho <<= 1;
+        }
+        this.anel = new Evento[tamanho];
+        this.mascara = tamanho - 1;
+        this.limiteLentoNanos = limiteLento.toNanos();
+        this.ouvinte = ouvinte;
+        this.trabalhadores = new Trabalhador[quantidadeDeTrabalhadores];
+        for (int i = 0; i < quantidadeDeTrabalhadores; i++) {
+            trabalhadores[i] = new Trabalhador(i);
+        }
+        for (Trabalhador trabalhador : trabalhadores) {
+            trabalhador.thread.start();
+        }
+    }
+
+    /**
+     * Coloca o aviso de reposição no anel e retorna sem esperar a entrega.
+     * Devolve false se o evento foi descartado: porque o anel estava cheio
+     * (informado ao ouvinte) ou porque o barramento já foi fechado (nesse
+     * caso o aviso é simplesmente ignorado, sem erro para quem publica).
+     */
+    public boolean publicar(String nomeProduto, RegistroDeObservadores observadores) {
+        // A divisão por trabalhador é compartilhada enquanto a lista de observadores não mudar.
+        Evento evento = new Evento(nomeProduto, observadores.separadosEm(trabalhadores.length));
+        synchronized (this) {
+            if (!aberto) {
+                return false;
+            }
+            long sequencia = cursor + 1;
+            if (sequencia - menorCursorProcessado() > anel.length) {
+                descartados.increment();
+                ouvinte.eventoDescartado(nomeProduto);
+                return false;
+            }
+            anel[(int) (sequencia & mascara)] = evento;
+            cursor = sequencia;
+        }
+        publicados.increment();
+        acordarTrabalhadores();
+        return true;
+    }
+
+    /**
+     * Para de aceitar eventos, entrega o que já está no anel e encerra os trabalhadores.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            aberto = false;
+        }
+        acordarTrabalhadores();
+        for (Trabalhador trabalhador : trabalhadores) {
+            try {
+                trabalhador.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public long getPublicados() {
+        return publicados.sum();
+    }
+
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    public long getEntregues() {
+        return entregues.sum();
+    }
+
+    public long getEntregasLentas() {
+        return entregasLentas.sum();
+    }
+
+    // Todos precisam avançar o cursor, mesmo os sem assinantes no evento; só os parados são acordados.
+    private void acordarTrabalhadores() {
+        for (Trabalhador trabalhador : trabalhadores) {
+            if (trabalhador.parado) {
+                LockSupport.unpark(trabalhador.thread);
+            }
+        }
+    }
+
+    private long menorCursorProcessado() {
+        long menor = Long.MAX_VALUE;
+        for (Trabalhador trabalhador : trabalhadores) {
+            menor = Math.min(menor, trabalhador.processado);
+        }
+        return menor;
+    }
+
+    private class Trabalhador implements Runnable {
+        private final int indice;
+        private final Thread thread;
+        // Último evento que este trabalhador terminou de entregar.
+        private volatile long processado = -1;
+        // Verdadeiro enquanto a thread está (ou vai ficar) parada esperando eventos.
+        private volatile boolean parado;
+
+        Trabalhador(int indice) {
+            this.indice = indice;
+            this.thread = new Thread(this, "barramento-" + indice);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                long proximo = processado + 1;
+                if (proximo <= cursor) {
+                    Evento evento = anel[(int) (proximo & mascara)];
+                    entregar(evento);
+                    processado = proximo;
+                } else if (aberto) {
+                    // Marca antes de reler cursor e aberto: ou quem publica vê a marca e acorda
+                    // esta thread, ou esta thread vê o evento novo e não para.
+                    parado = true;
+                    if (proximo > cursor && aberto) {
+                        LockSupport.park(this);
+                    }
+                    parado = false;
+                } else if (proximo > cursor) {
+                    // Relê o cursor depois de ver o barramento fechado: nada publicado antes do close fica para trás.
+                    return;
+                }
+            }
+        }
+
+        private void entregar(Evento evento) {
+            for (Observador observador : evento.porTrabalhador[indice]) {
+                entregar(observador, evento.nomeProduto);
+            }
+        }
+
+        private void entregar(Observador observador, String nomeProduto) {
+            long inicio = System.nanoTime();
+            try {
+                observador.atualizar(nomeProduto);
+                entregues.increment();
+            } catch (RuntimeException e) {
+                System.err.println("Falha ao notificar " + observador + ": " + e.getMessage());
+            }
+            long duracao = System.nanoTime() - inicio;
+            if (duracao > limiteLentoNanos) {
+                entregasLentas.increment();
+                ouvinte.assinanteLento(observador, nomeProduto, Duration.ofNanos(duracao));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package barramento;
+
+import observers.Observador;
+
+import java.time.Duration;
+
+/**
+ * Recebe os problemas de entrega do barramento: eventos descartados porque o
+ * anel estava cheio e assinantes que demoraram demais para processar um evento.
+ */
+public interface OuvinteDoBarramento {
+    void eventoDescartado(String nomeProduto);
+
+    void assinanteLento(Observador observador, String nomeProduto, Duration duracao);
+
+    // Padrão: apenas registra os problemas na saída de erro.
+    OuvinteDoBarramento REGISTRAR_NO_CONSOLE = new OuvinteDoBarramento() {
+        @Override
+        public void eventoDescartado(String nomeProduto) {
+            System.err.println("Barramento cheio: aviso de reposição de '" + nomeProduto + "' descartado.");
+        }
+
+        @Override
+        public void assinanteLento(Observador observador, String nomeProduto, Duration duracao) {
+            System.err.println("Assinante lento: " + observador + " levou " + duracao.toMillis()
+                    + " ms para processar '" + nomeProduto + "'.");
+        }
+    };
+}
@@ -0,0 +1,110 @@
+package indice;
+
+import observers.Observador;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice central de assinaturas para o catálogo inteiro: em vez de cada
+ * Produto guardar sua lista, os assinantes ficam indexados pelo id do produto.
+ *
+ * Uma atualização de inventário com milhares de produtos reabastecidos é
+ * tratada em uma única passada pelos ids, e cada assinante recebe uma só
+ * chamada com todos os produtos que acompanha e que voltaram ao estoque.
+ */
+public class IndiceDeAssinaturas {
+    private final MapaLong<String> nomes;
+    // Um conjunto por identidade para cada produto: inscrever e desinscrever são O(1).
+    // Só é alterado com o lock de escrita; a passada de notificação lê com o de leitura.
+    private final MapaLong<Set<Observador>> assinantes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public IndiceDeAssinaturas() {
+        this(16);
+    }
+
+    public IndiceDeAssinaturas(int produtosEsperados) {
+        this.nomes = new MapaLong<>(produtosEsperados);
+        this.assinantes = new MapaLong<>(produtosEsperados);
+    }
+
+    public void cadastrarProduto(long idProduto, String nome) {
+        lock.writeLock().lock();
+        try {
+            nomes.put(idProduto, nome);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void inscrever(long idProduto, Observador observador) {
+        lock.writeLock().lock();
+        try {
+            Set<Observador> doProduto = assinantes.get(idProduto);
+            if (doProduto == null) {
+                doProduto = Collections.newSetFromMap(new IdentityHashMap<>());
+                assinantes.put(idProduto, doProduto);
+            }
+            doProduto.add(observador);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void desinscrever(long idProduto, Observador observador) {
+        lock.writeLock().lock();
+        try {
+            Set<Observador> doProduto = assinantes.get(idProduto);
+            if (doProduto != null && doProduto.remove(observador) && doProduto.isEmpty()) {
+                assinantes.remove(idProduto);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Avisa os assinantes dos produtos reabastecidos. Os ids são percorridos uma
+     * vez, agrupando os nomes por assinante; depois cada assinante recebe uma
+     * única chamada a atualizar(List), fora do lock.
+     *
+     * @return quantos assinantes foram notificados
+     */
+    public int notificarReposicoes(long[] idsReabastecidos) {
+        Map<Observador, List<String>> porAssinante = new IdentityHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (long id : idsReabastecidos) {
+                Set<Observador> doProduto = assinantes.get(id);
+                if (doProduto == null) {
+                    continue;
+                }
+                String nome = nomes.get(id);
+                if (nome == null) {
+                    nome = "#" + id;
+                }
+                for (Observador observador : doProduto) {
+                    porAssinante.computeIfAbsent(observador, o -> new ArrayList<>()).add(nome);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        for (Map.Entry<Observador, List<String>> entrada : porAssinante.entrySet()) {
+            try {
+                entrada.getKey().atualizar(entrada.getValue());
+            } catch (RuntimeException e) {
+                System.err.println("Falha ao notificar " + entrada.getKey() + ": " + e.getMessage());
+            }
+        }
+        return porAssinante.size();
+    }
+}
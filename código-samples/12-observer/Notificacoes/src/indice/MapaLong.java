@@ -0,0 +1,103 @@
+package indice;
+
+/**
+ * Mapa de long para objeto com endereçamento aberto (sondagem linear).
+ * As chaves ficam em um long[]: nada de Long em caixa nem de nó por entrada,
+ * o que importa com milhões de produtos. Não é thread-safe.
+ */
+public class MapaLong<V> {
+    private static final float CARGA_MAXIMA = 0.6f;
+
+    private long[] chaves;
+    private Object[] valores;
+    private int tamanho;
+
+    public MapaLong() {
+        this(16);
+    }
+
+    public MapaLong(int capacidadeEsperada) {
+        int capacidade = Integer.highestOneBit(Math.max(4, (int) (capacidadeEsperada / CARGA_MAXIMA)) - 1) << 1;
+        chaves = new long[capacidade];
+        valores = new Object[capacidade];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long chave) {
+        int i = posicao(chave);
+        return (V) valores[i];
+    }
+
+    public void put(long chave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("O mapa não guarda valores nulos.");
+        }
+        int i = posicao(chave);
+        if (valores[i] == null) {
+            chaves[i] = chave;
+            tamanho++;
+        }
+        valores[i] = valor;
+        if (tamanho > chaves.length * CARGA_MAXIMA) {
+            redimensionar();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long chave) {
+        int i = posicao(chave);
+        V anterior = (V) valores[i];
+        if (anterior == null) {
+            return null;
+        }
+        valores[i] = null;
+        tamanho--;
+        // Puxa para trás as entradas seguintes do mesmo agrupamento, para a sondagem não parar no buraco.
+        int mascara = chaves.length - 1;
+        int vazio = i;
+        for (int j = (i + 1) & mascara; valores[j] != null; j = (j + 1) & mascara) {
+            int ideal = espalhar(chaves[j]) & mascara;
+            if (((j - ideal) & mascara) >= ((j - vazio) & mascara)) {
+                chaves[vazio] = chaves[j];
+                valores[vazio] = valores[j];
+                valores[j] = null;
+                vazio = j;
+            }
+        }
+        return anterior;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    // Posição da chave, ou da vaga onde ela entraria.
+    private int posicao(long chave) {
+        int mascara = chaves.length - 1;
+        int i = espalhar(chave) & mascara;
+        while (valores[i] != null && chaves[i] != chave) {
+            i = (i + 1) & mascara;
+        }
+        return i;
+    }
+
+    private void redimensionar() {
+        long[] chavesAntigas = chaves;
+        Object[] valoresAntigos = valores;
+        chaves = new long[chavesAntigas.length * 2];
+        valores = new Object[valoresAntigos.length * 2];
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            if (valoresAntigos[i] != null) {
+                int j = posicao(chavesAntigas[i]);
+                chaves[j] = chavesAntigas[i];
+                valores[j] = valoresAntigos[i];
+            }
+        }
+    }
+
+    // Ids de produto costumam ser sequenciais: mistura os bits para espalhar pela tabela.
+    private static int espalhar(long chave) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -1,5 +1,7 @@
 package observers;
 
+import java.util.List;
+
 public class Cliente implements Observador {
     private String nome;
 
@@ -11,4 +13,15 @@ public class Cliente implements Observador {
     public void atualizar(String nomeProduto) {
         System.out.println("  >> Notificação para " + this.nome + ": O produto '" + nomeProduto + "' está disponível novamente!");
     }
+
+    // Um único aviso com todos os produtos que voltaram.
+    @Override
+    public void atualizar(List<String> nomesProdutos) {
+        if (nomesProdutos.size() == 1) {
+            atualizar(nomesProdutos.get(0));
+            return;
+        }
+        System.out.println("  >> Notificação para " + this.nome + ": " + nomesProdutos.size()
+                + " produtos estão disponíveis novamente: " + String.join(", ", nomesProdutos));
+    }
 }
@@ -1,5 +1,14 @@
 package observers;
 
+import java.util.List;
+
 public interface Observador {
     void atualizar(String nomeProduto);
+
+    // Vários produtos voltaram ao estoque de uma vez. Por padrão, um aviso por produto.
+    default void atualizar(List<String> nomesProdutos) {
+        for (String nomeProduto : nomesProdutos) {
+            atualizar(nomeProduto);
+        }
+    }
 }
@@ -3,7 +3,7 @@ package subjetcs;
 import observers.Observador;
 
 public interface Assunto {
-    void anexar(Observador observador);
+    Inscricao anexar(Observador observador);
     void desanexar(Observador observador);
     void notificarObservadores();
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package subjetcs;
+
+import observers.Observador;
+
+/**
+ * Comprovante de que um observador foi anexado a um assunto.
+ * Cancelar pela inscrição custa O(1): não é preciso procurar o observador na lista.
+ */
+public final class Inscricao {
+    private final RegistroDeObservadores registro;
+    private final Observador observador;
+    volatile boolean ativa = true;
+
+    Inscricao(RegistroDeObservadores registro, Observador observador) {
+        this.registro = registro;
+        this.observador = observador;
+    }
+
+    public Observador getObservador() {
+        return observador;
+    }
+
+    public boolean isAtiva() {
+        return ativa;
+    }
+
+    public void cancelar() {
+        registro.remover(this);
+    }
+}
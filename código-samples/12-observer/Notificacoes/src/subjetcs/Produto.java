@@ -1,43 +1,175 @@
 package subjetcs;
 
+import barramento.BarramentoDeEventos;
 import observers.Observador;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Produto implements Assunto {
-    private String nome;
-    private int estoque;
-    private List<Observador> observadores = new ArrayList<>();
+    private final String nome;
+    // Atômico: a leitura do estoque anterior e a escrita do novo acontecem juntas,
+    // então duas threads não podem disparar a mesma reposição.
+    private final AtomicInteger estoque = new AtomicInteger();
+    private final RegistroDeObservadores observadores = new RegistroDeObservadores();
+    // Nulo: notifica na própria thread. Com barramento: só publica o evento e segue.
+    private final BarramentoDeEventos barramento;
+    // Zero: notifica a cada reposição. Positivo: agrupa as reposições dentro da janela.
+    private volatile long janelaDeAgrupamentoNanos;
+    private final AtomicBoolean notificacaoAgendada = new AtomicBoolean();
+    // Último aviso de fim de janela entregue em Agendador.ENTREGAS; o próximo só começa
+    // depois dele. Lido e escrito só pela thread do Agendador.
+    private CompletableFuture<Void> ultimoAviso = CompletableFuture.completedFuture(null);
 
     public Produto(String nome) {
+        this(nome, null);
+    }
+
+    public Produto(String nome, BarramentoDeEventos barramento) {
         this.nome = nome;
+        this.barramento = barramento;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getEstoque() {
+        return estoque.get();
     }
 
     public void setEstoque(int novoEstoque) {
+        int estoqueAnterior = estoque.getAndSet(novoEstoque);
         // Se o produto estava sem estoque e agora tem, notifique!
-        if (this.estoque == 0 && novoEstoque > 0) {
-            System.out.println("O produto '" + this.nome + "' voltou ao estoque!");
-            notificarObservadores(); // Chama a notificação
+        if (estoqueAnterior <= 0 && novoEstoque > 0) {
+            reposicaoDetectada();
+        }
+    }
+
+    /**
+     * Retira a quantidade do estoque se houver o suficiente. Usa compare-and-set,
+     * então reservas simultâneas nunca deixam o estoque negativo.
+     */
+    public boolean reservar(int quantidade) {
+        exigirPositiva(quantidade);
+        while (true) {
+            int atual = estoque.get();
+            if (atual < quantidade) {
+                return false;
+            }
+            if (estoque.compareAndSet(atual, atual - quantidade)) {
+                return true;
+            }
+        }
+    }
+
+    // Devolve ao estoque (reserva cancelada, nova remessa). Notifica se o produto estava esgotado.
+    public void repor(int quantidade) {
+        exigirPositiva(quantidade);
+        int estoqueAnterior = estoque.getAndAdd(quantidade);
+        if (estoqueAnterior <= 0 && estoqueAnterior + quantidade > 0) {
+            reposicaoDetectada();
+        }
+    }
+
+    /**
+     * Com uma janela positiva, as reposições que acontecem dentro dela geram no
+     * máximo uma notificação, enviada ao fim da janela e só se ainda houver
+     * estoque. Evita inundar os clientes quando o estoque oscila entre 0 e 1.
+     * Uma janela zero volta a notificar a cada reposição.
+     */
+    public void setJanelaDeAgrupamento(Duration janela) {
+        if (janela == null || janela.isNegative()) {
+            throw new IllegalArgumentException("A janela de agrupamento não pode ser nula nem negativa.");
+        }
+        this.janelaDeAgrupamentoNanos = janela.toNanos();
+    }
+
+    private static void exigirPositiva(int quantidade) {
+        if (quantidade <= 0) {
+            throw new IllegalArgumentException("A quantidade deve ser positiva: " + quantidade);
+        }
+    }
+
+    private void reposicaoDetectada() {
+        long janela = janelaDeAgrupamentoNanos;
+        if (janela <= 0) {
+            avisarReposicao();
+            return;
+        }
+        // Só a primeira reposição da janela agenda; as demais caem na mesma avaliação.
+        if (notificacaoAgendada.compareAndSet(false, true)) {
+            Agendador.INSTANCIA.schedule(() -> {
+                notificacaoAgendada.set(false);
+                if (estoque.get() > 0) {
+                    // O agendador é de todos os produtos: um observador lento não pode atrasar as
+                    // janelas dos outros. Com barramento, publicar já retorna na hora.
+                    if (barramento != null) {
+                        avisarReposicao();
+                    } else {
+                        // Encadeado no aviso anterior: as janelas de um produto chegam em ordem
+                        // e nunca ao mesmo tempo, mesmo com um observador lento.
+                        ultimoAviso = ultimoAviso.thenRunAsync(this::avisarReposicaoSemFalhar, Agendador.ENTREGAS);
+                    }
+                }
+            }, janela, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void avisarReposicao() {
+        System.out.println("O produto '" + this.nome + "' voltou ao estoque!");
+        notificarObservadores(); // Chama a notificação
+    }
+
+    // Uma falha não pode interromper a corrente de avisos do produto.
+    private void avisarReposicaoSemFalhar() {
+        try {
+            avisarReposicao();
+        } catch (RuntimeException e) {
+            System.err.println("Falha ao avisar a reposição de '" + this.nome + "': " + e.getMessage());
         }
-        this.estoque = novoEstoque;
     }
 
     @Override
-    public void anexar(Observador observador) {
-        observadores.add(observador);
+    public Inscricao anexar(Observador observador) {
+        return observadores.adicionar(observador);
     }
 
     @Override
     public void desanexar(Observador observador) {
-        observadores.remove(observador);
+        observadores.remover(observador);
     }
 
     @Override
     public void notificarObservadores() {
         // O Subject não sabe quem são os observadores, apenas os notifica.
-        for (Observador obs : observadores) {
-            obs.atualizar(this.nome);
+        if (barramento != null) {
+            barramento.publicar(this.nome, observadores);
+            return;
         }
+        observadores.paraCada(obs -> obs.atualizar(this.nome));
+    }
+
+    // Uma única thread para todos os produtos, criada só quando alguma janela é usada.
+    // As notificações do fim da janela rodam em ENTREGAS, não nela: um número fixo de
+    // threads, que não cresce com a quantidade de produtos nem com observadores lentos.
+    private static final class Agendador {
+        static final ScheduledExecutorService INSTANCIA = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "agrupamento-de-reposicoes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        static final ExecutorService ENTREGAS = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), tarefa -> {
+                    Thread thread = new Thread(tarefa, "aviso-de-reposicao");
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 }
@@ -0,0 +1,164 @@
+package subjetcs;
+
+import observers.Observador;
+
+import java.util.function.Consumer;
+
+/**
+ * Lista de observadores segura para uso concorrente.
+ *
+ * Quem notifica lê um instantâneo imutável (array + tamanho) sem nenhum lock,
+ * então anexar ou desanexar durante uma notificação nunca lança
+ * ConcurrentModificationException. As escritas são serializadas:
+ * - anexar grava na próxima posição livre do array e só então publica um
+ *   instantâneo com o tamanho novo (O(1) amortizado);
+ * - cancelar apenas marca a inscrição como inativa (O(1)); quando metade das
+ *   posições está cancelada, o array é compactado em uma cópia nova.
+ *
+ * Para entregas assíncronas, separadosEm() devolve uma cópia fixa dos
+ * observadores já dividida em partes, refeita só depois que a lista muda.
+ */
+public class RegistroDeObservadores {
+    private static final int CAPACIDADE_INICIAL = 8;
+
+    private static final class Instantaneo {
+        final Inscricao[] inscricoes;
+        final int tamanho;
+
+        Instantaneo(Inscricao[] inscricoes, int tamanho) {
+            this.inscricoes = inscricoes;
+            this.tamanho = tamanho;
+        }
+    }
+
+    private volatile Instantaneo atual = new Instantaneo(new Inscricao[CAPACIDADE_INICIAL], 0);
+    private int canceladas; // protegido por this
+    // Última divisão pedida a separadosEm; null depois de qualquer mudança.
+    private volatile Separacao separacao;
+
+    private static final class Separacao {
+        final int partes;
+        final Observador[][] porParte;
+
+        Separacao(int partes, Observador[][] porParte) {
+            this.partes = partes;
+            this.porParte = porParte;
+        }
+    }
+
+    public synchronized Inscricao adicionar(Observador observador) {
+        Instantaneo instantaneo = atual;
+        if (instantaneo.tamanho == instantaneo.inscricoes.length) {
+            instantaneo = compactar(instantaneo);
+        }
+        Inscricao inscricao = new Inscricao(this, observador);
+        // A posição está além do tamanho publicado: nenhum leitor a enxerga até a publicação abaixo.
+        instantaneo.inscricoes[instantaneo.tamanho] = inscricao;
+        atual = new Instantaneo(instantaneo.inscricoes, instantaneo.tamanho + 1);
+        separacao = null;
+        return inscricao;
+    }
+
+    synchronized void remover(Inscricao inscricao) {
+        if (!inscricao.ativa) {
+            return;
+        }
+        inscricao.ativa = false;
+        separacao = null;
+        canceladas++;
+        Instantaneo instantaneo = atual;
+        if (canceladas > CAPACIDADE_INICIAL && canceladas * 2 > instantaneo.tamanho) {
+            atual = compactar(instantaneo);
+        }
+    }
+
+    // Remove a primeira inscrição ativa do observador. O(n): prefira Inscricao.cancelar().
+    public void remover(Observador observador) {
+        Instantaneo instantaneo = atual;
+        for (int i = 0; i < instantaneo.tamanho; i++) {
+            Inscricao inscricao = instantaneo.inscricoes[i];
+            if (inscricao.ativa && inscricao.getObservador().equals(observador)) {
+                inscricao.cancelar();
+                return;
+            }
+        }
+    }
+
+    // Percorre o instantâneo atual sem lock, pulando inscrições canceladas.
+    public void paraCada(Consumer<Observador> acao) {
+        Instantaneo instantaneo = atual;
+        Inscricao[] inscricoes = instantaneo.inscricoes;
+        for (int i = 0; i < instantaneo.tamanho; i++) {
+            Inscricao inscricao = inscricoes[i];
+            if (inscricao.ativa) {
+                acao.accept(inscricao.getObservador());
+            }
+        }
+    }
+
+    /**
+     * Observadores ativos agora, divididos em {@code partes} pela identidade:
+     * um observador cai sempre na mesma parte, e cada parte mantém a ordem de
+     * inscrição. A divisão é feita uma vez por versão da lista e compartilhada
+     * por todas as chamadas até a próxima mudança, então os arrays devolvidos
+     * não devem ser alterados.
+     */
+    public Observador[][] separadosEm(int partes) {
+        Separacao atualizada = separacao;
+        if (atualizada != null && atualizada.partes == partes) {
+            return atualizada.porParte;
+        }
+        synchronized (this) {
+            atualizada = separacao;
+            if (atualizada == null || atualizada.partes != partes) {
+                atualizada = new Separacao(partes, separar(partes));
+                separacao = atualizada;
+            }
+            return atualizada.porParte;
+        }
+    }
+
+    // Protegido por this.
+    private Observador[][] separar(int partes) {
+        Instantaneo instantaneo = atual;
+        int[] destino = new int[instantaneo.tamanho];
+        int[] tamanhos = new int[partes];
+        for (int i = 0; i < instantaneo.tamanho; i++) {
+            Inscricao inscricao = instantaneo.inscricoes[i];
+            destino[i] = inscricao.ativa ? Math.floorMod(System.identityHashCode(inscricao.getObservador()), partes) : -1;
+            if (destino[i] >= 0) {
+                tamanhos[destino[i]]++;
+            }
+        }
+        Observador[][] porParte = new Observador[partes][];
+        for (int p = 0; p < partes; p++) {
+            porParte[p] = new Observador[tamanhos[p]];
+            tamanhos[p] = 0;
+        }
+        for (int i = 0; i < instantaneo.tamanho; i++) {
+            if (destino[i] >= 0) {
+                porParte[destino[i]][tamanhos[destino[i]]++] = instantaneo.inscricoes[i].getObservador();
+            }
+        }
+        return porParte;
+    }
+
+    public synchronized int quantidade() {
+        return atual.tamanho - canceladas;
+    }
+
+    // Copia as inscrições ativas, na mesma ordem, para um array novo com folga para crescer.
+    private Instantaneo compactar(Instantaneo instantaneo) {
+        int ativas = instantaneo.tamanho - canceladas;
+        Inscricao[] novas = new Inscricao[Math.max(CAPACIDADE_INICIAL, ativas * 2)];
+        int n = 0;
+        for (int i = 0; i < instantaneo.tamanho; i++) {
+            Inscricao inscricao = instantaneo.inscricoes[i];
+            if (inscricao.ativa) {
+                novas[n++] = inscricao;
+            }
+        }
+        canceladas = 0;
+        return new Instantaneo(novas, n);
+    }
+}
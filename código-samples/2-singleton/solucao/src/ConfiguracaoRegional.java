@@ -0,0 +1,61 @@
+import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * Valores derivados do idioma da configuração (Locale, formatos de data e
+ * número, símbolo da moeda). São montados uma única vez quando o idioma muda,
+ * em vez de a cada requisição, e podem ser compartilhados entre threads.
+ */
+public final class ConfiguracaoRegional {
+    private final Locale locale;
+    private final DateTimeFormatter formatoDeData;
+    private final String simboloMoeda;
+    // NumberFormat não é thread-safe: cada thread recebe a sua cópia, criada uma só vez.
+    private final ThreadLocal<NumberFormat> formatoDeMoeda;
+    private final ThreadLocal<NumberFormat> formatoDeNumero;
+
+    ConfiguracaoRegional(String idioma) {
+        this.locale = Locale.forLanguageTag(idioma);
+        this.formatoDeData = DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT).withLocale(locale);
+        this.simboloMoeda = simboloDaMoeda(locale);
+        this.formatoDeMoeda = ThreadLocal.withInitial(() -> NumberFormat.getCurrencyInstance(locale));
+        this.formatoDeNumero = ThreadLocal.withInitial(() -> NumberFormat.getNumberInstance(locale));
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public DateTimeFormatter getFormatoDeData() {
+        return formatoDeData;
+    }
+
+    public String getSimboloMoeda() {
+        return simboloMoeda;
+    }
+
+    public String formatarMoeda(double valor) {
+        return formatoDeMoeda.get().format(valor);
+    }
+
+    public String formatarNumero(double valor) {
+        return formatoDeNumero.get().format(valor);
+    }
+
+    public String formatarData(TemporalAccessor data) {
+        return formatoDeData.format(data);
+    }
+
+    private static String simboloDaMoeda(Locale locale) {
+        try {
+            return Currency.getInstance(locale).getSymbol(locale);
+        } catch (IllegalArgumentException e) {
+            // Locale sem país (ex.: "pt"): não há moeda associada.
+            return "";
+        }
+    }
+}
@@ -1,23 +1,193 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
 public class ConfiguracaoSistema {
-    private static ConfiguracaoSistema configuracaoSistema;
-    public String idioma;
+    public static final String IDIOMA = "idioma";
+    public static final String IDIOMA_PADRAO = "pt-BR";
+
+    // A configuração atual é um retrato imutável; alterações trocam o retrato inteiro de uma vez.
+    private final AtomicReference<Configuracao> atual =
+            new AtomicReference<>(new Configuracao(Map.of(IDIOMA, IDIOMA_PADRAO), null));
+    // Ouvintes por chave: só são chamados quando o valor daquela chave muda.
+    private final Map<String, List<Consumer<String>>> ouvintes = new ConcurrentHashMap<>();
+    // Último retrato já avisado aos ouvintes e se alguma thread está avisando agora;
+    // protegidos pelo lock de 'ouvintes', que nunca fica preso durante a chamada a um ouvinte.
+    private Configuracao ultimaNotificada = atual.get();
+    private boolean notificando;
 
     private ConfiguracaoSistema() {
-        this.idioma = "pt-BR";
+    }
+
+    // A JVM só carrega o Holder no primeiro getInstance(), e a carga de classes já é thread-safe:
+    // uma única instância, sem synchronized e sem custo nas leituras seguintes.
+    private static class Holder {
+        private static final ConfiguracaoSistema INSTANCIA = new ConfiguracaoSistema();
     }
 
     public static ConfiguracaoSistema getInstance() {
-        if (configuracaoSistema == null) {
-            configuracaoSistema = new ConfiguracaoSistema();
-        }
-        return configuracaoSistema;
+        return Holder.INSTANCIA;
+    }
+
+    // Quem precisa de vários valores deve ler um único retrato, para que todos sejam da mesma versão.
+    public Configuracao getConfiguracao() {
+        return atual.get();
     }
 
     public String getIdioma() {
-        return idioma;
+        return atual.get().getIdioma();
     }
 
     public void setIdioma(String idioma) {
-        this.idioma = idioma;
+        if (idioma == null) {
+            throw new IllegalArgumentException("O idioma não pode ser nulo.");
+        }
+        Configuracao anterior;
+        Configuracao nova;
+        do {
+            anterior = atual.get();
+            nova = anterior.com(IDIOMA, idioma);
+        } while (!atual.compareAndSet(anterior, nova));
+        notificarAlteracoes();
+    }
+
+    /**
+     * Substitui todos os valores de uma vez (usado ao recarregar o arquivo de
+     * configuração). Sem a chave de idioma, vale o idioma padrão.
+     */
+    public void substituir(Map<String, String> valores) {
+        Map<String, String> completos = new HashMap<>(valores);
+        completos.putIfAbsent(IDIOMA, IDIOMA_PADRAO);
+        Configuracao anterior;
+        Configuracao nova;
+        do {
+            anterior = atual.get();
+            nova = new Configuracao(completos, anterior);
+        } while (!atual.compareAndSet(anterior, nova));
+        notificarAlteracoes();
+    }
+
+    /**
+     * Registra um ouvinte para uma chave. Ele recebe o novo valor sempre que a
+     * chave mudar, em vez de precisar consultar a configuração a cada requisição.
+     */
+    public Inscricao inscrever(String chave, Consumer<String> ouvinte) {
+        List<Consumer<String>> daChave = ouvintes.computeIfAbsent(chave, k -> new CopyOnWriteArrayList<>());
+        daChave.add(ouvinte);
+        return () -> daChave.remove(ouvinte);
+    }
+
+    /**
+     * Avisa os ouvintes do que mudou desde o último aviso. Só uma thread avisa
+     * por vez: quem altera a configuração enquanto outra avisa (inclusive um
+     * ouvinte, de dentro do aviso) só registra a mudança e volta, e a thread
+     * que está avisando faz mais uma rodada com o retrato mais recente. Os
+     * ouvintes são copiados com o lock e chamados sem ele, e cada um recebe o
+     * valor atual no momento da chamada, então um valor antigo nunca chega
+     * depois de um mais novo (o mesmo valor pode chegar duas vezes). Um ouvinte
+     * que lança exceção não impede os demais de serem avisados.
+     */
+    private void notificarAlteracoes() {
+        synchronized (ouvintes) {
+            if (notificando) {
+                return;
+            }
+            notificando = true;
+        }
+        boolean concluido = false;
+        try {
+            List<Map.Entry<String, List<Consumer<String>>>> avisos = new ArrayList<>();
+            while (proximosAvisos(avisos)) {
+                for (Map.Entry<String, List<Consumer<String>>> aviso : avisos) {
+                    String chave = aviso.getKey();
+                    for (Consumer<String> ouvinte : aviso.getValue()) {
+                        avisar(ouvinte, chave, atual.get().get(chave));
+                    }
+                }
+            }
+            concluido = true;
+        } finally {
+            if (!concluido) {
+                synchronized (ouvintes) {
+                    notificando = false;
+                }
+            }
+        }
+    }
+
+    // Preenche 'avisos' com as chaves que mudaram desde o último aviso e uma cópia dos seus
+    // ouvintes. Sem mudanças, encerra a vez desta thread e devolve false.
+    private boolean proximosAvisos(List<Map.Entry<String, List<Consumer<String>>>> avisos) {
+        avisos.clear();
+        synchronized (ouvintes) {
+            Configuracao anterior = ultimaNotificada;
+            Configuracao nova = atual.get();
+            if (nova == anterior) {
+                notificando = false;
+                return false;
+            }
+            ultimaNotificada = nova;
+            for (Map.Entry<String, List<Consumer<String>>> entrada : ouvintes.entrySet()) {
+                String chave = entrada.getKey();
+                if (!Objects.equals(anterior.get(chave), nova.get(chave))) {
+                    avisos.add(Map.entry(chave, List.copyOf(entrada.getValue())));
+                }
+            }
+            return true;
+        }
+    }
+
+    private static void avisar(Consumer<String> ouvinte, String chave, String novoValor) {
+        try {
+            ouvinte.accept(novoValor);
+        } catch (RuntimeException e) {
+            System.err.println("Falha em um ouvinte da chave '" + chave + "': " + e);
+        }
+    }
+
+    public interface Inscricao {
+        void cancelar();
+    }
+
+    // Valores da configuração em um dado momento. Imutável: pode ser compartilhado entre threads.
+    public static final class Configuracao {
+        private final Map<String, String> valores;
+        // Idioma efetivo (o padrão, se a chave faltar ou for nula) e os valores derivados dele.
+        private final String idioma;
+        private final ConfiguracaoRegional regional;
+
+        // Reaproveita os valores derivados da configuração anterior se o idioma não mudou.
+        private Configuracao(Map<String, String> valores, Configuracao anterior) {
+            this.valores = Collections.unmodifiableMap(new HashMap<>(valores));
+            this.idioma = Objects.requireNonNullElse(this.valores.get(IDIOMA), IDIOMA_PADRAO);
+            this.regional = anterior != null && idioma.equals(anterior.idioma)
+                    ? anterior.regional
+                    : new ConfiguracaoRegional(idioma);
+        }
+
+        public String get(String chave) {
+            return valores.get(chave);
+        }
+
+        public String getIdioma() {
+            return idioma;
+        }
+
+        public ConfiguracaoRegional getRegional() {
+            return regional;
+        }
+
+        private Configuracao com(String chave, String valor) {
+            Map<String, String> novosValores = new HashMap<>(valores);
+            novosValores.put(chave, valor);
+            return new Configuracao(novosValores, this);
+        }
     }
-}
\ No newline at end of file
+}
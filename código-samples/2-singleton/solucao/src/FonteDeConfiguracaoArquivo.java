@@ -0,0 +1,100 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mantém a ConfiguracaoSistema sincronizada com um arquivo .properties.
+ * Uma thread em segundo plano observa o arquivo com o WatchService e, depois
+ * que as alterações param por alguns milissegundos (debounce), relê o arquivo
+ * e troca a configuração de uma vez. Quem está lendo a configuração nunca é
+ * bloqueado; se o arquivo estiver inválido, a configuração anterior é mantida.
+ */
+public class FonteDeConfiguracaoArquivo implements AutoCloseable {
+    private final Path arquivo;
+    private final long debounceMs;
+    private final WatchService watchService;
+    private final Thread observador;
+
+    public FonteDeConfiguracaoArquivo(Path arquivo, long debounceMs) throws IOException {
+        this.arquivo = arquivo.toAbsolutePath();
+        this.debounceMs = debounceMs;
+        this.watchService = this.arquivo.getFileSystem().newWatchService();
+        this.arquivo.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        recarregar();
+        this.observador = new Thread(this::observar, "observador-configuracao");
+        this.observador.setDaemon(true);
+        this.observador.start();
+    }
+
+    private void observar() {
+        try {
+            while (true) {
+                if (!alterouArquivo(watchService.take())) {
+                    continue;
+                }
+                // Debounce: espera o arquivo ficar quieto antes de recarregar.
+                WatchKey proxima;
+                while ((proxima = watchService.poll(debounceMs, TimeUnit.MILLISECONDS)) != null) {
+                    alterouArquivo(proxima);
+                }
+                try {
+                    recarregar();
+                } catch (RuntimeException e) {
+                    // Um erro inesperado não pode matar a thread: as próximas alterações ainda devem ser lidas.
+                    System.err.println("Falha ao aplicar " + arquivo + ": " + e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Fonte encerrada.
+        }
+    }
+
+    // Consome os eventos da chave e diz se algum deles é do nosso arquivo.
+    private boolean alterouArquivo(WatchKey chave) {
+        boolean alterou = false;
+        for (WatchEvent<?> evento : chave.pollEvents()) {
+            if (arquivo.getFileName().equals(evento.context())) {
+                alterou = true;
+            }
+        }
+        chave.reset();
+        return alterou;
+    }
+
+    private void recarregar() {
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(arquivo)) {
+            propriedades.load(leitor);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Não foi possível recarregar " + arquivo + ": " + e.getMessage());
+            return;
+        }
+        Map<String, String> valores = new HashMap<>();
+        for (String chave : propriedades.stringPropertyNames()) {
+            valores.put(chave, propriedades.getProperty(chave));
+        }
+        ConfiguracaoSistema.getInstance().substituir(valores);
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        observador.interrupt();
+    }
+}
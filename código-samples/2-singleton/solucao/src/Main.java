@@ -1,6 +1,9 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 public class Main {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         ConfiguracaoSistema configuracaoSistema = ConfiguracaoSistema.getInstance();
         configuracaoSistema.setIdioma("en-US");
 
@@ -9,5 +12,21 @@ public class Main {
 
         pedidos.exibirIdioma();
         relatorios.exibirIdioma();
+
+        // Configuração vinda de um arquivo: editar o arquivo atualiza todos os módulos sem reiniciar.
+        Path arquivo = Files.createTempFile("configuracao", ".properties");
+        Files.writeString(arquivo, "idioma=es-ES\n");
+        try (FonteDeConfiguracaoArquivo fonte = new FonteDeConfiguracaoArquivo(arquivo, 200)) {
+            System.out.println("Observando " + fonte.getArquivo().getFileName());
+            configuracaoSistema.inscrever(ConfiguracaoSistema.IDIOMA,
+                    idioma -> System.out.println("Idioma alterado no arquivo para: " + idioma));
+            pedidos.exibirIdioma();
+
+            Files.writeString(arquivo, "idioma=fr-FR\n");
+            Thread.sleep(2000); // Tempo para o WatchService perceber a mudança.
+            relatorios.exibirIdioma();
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
     }
 }
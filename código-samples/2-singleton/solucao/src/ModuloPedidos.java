@@ -1,6 +1,7 @@
 public class ModuloPedidos {
     public void exibirIdioma() {
-        ConfiguracaoSistema config = ConfiguracaoSistema.getInstance();
-        System.out.println("Módulo Pedidos - Idioma: " + config.getIdioma());
+        ConfiguracaoSistema.Configuracao config = ConfiguracaoSistema.getInstance().getConfiguracao();
+        System.out.println("Módulo Pedidos - Idioma: " + config.getIdioma()
+                + " - Total do pedido: " + config.getRegional().formatarMoeda(1234.5));
     }
 }
\ No newline at end of file
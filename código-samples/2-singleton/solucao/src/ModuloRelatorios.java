@@ -1,6 +1,9 @@
+import java.time.LocalDate;
+
 public class ModuloRelatorios {
     public void exibirIdioma() {
-        ConfiguracaoSistema config = ConfiguracaoSistema.getInstance();
-        System.out.println("Módulo Relatórios - Idioma: " + config.getIdioma());
+        ConfiguracaoSistema.Configuracao config = ConfiguracaoSistema.getInstance().getConfiguracao();
+        System.out.println("Módulo Relatórios - Idioma: " + config.getIdioma()
+                + " - Gerado em: " + config.getRegional().formatarData(LocalDate.now()));
     }
 }
\ No newline at end of file
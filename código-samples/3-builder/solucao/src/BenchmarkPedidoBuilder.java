@@ -0,0 +1,64 @@
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+
+/**
+ * Mede o custo dos pedidos em duas partes:
+ * - bytes alocados por pedido ao criá-lo com o Builder (o builder em si
+ *   costuma ser eliminado pela análise de escape do JIT);
+ * - memória retida por um histórico de pedidos guardados com as Strings que
+ *   chegaram na requisição e com as instâncias compartilhadas do Cardapio.
+ *
+ * Execução: java -Xmx1g BenchmarkPedidoBuilder [pedidos]
+ */
+public class BenchmarkPedidoBuilder {
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static Pedido ultimo;
+
+    public static void main(String[] args) {
+        int pedidos = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        for (int rodada = 0; rodada < 3; rodada++) {
+            long threadId = Thread.currentThread().threadId();
+            long bytesAntes = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < pedidos; i++) {
+                ultimo = new Pedido.Builder()
+                        .sanduiche("Cheeseburger").acompanhamento("Batata").bebida("Suco")
+                        .build();
+            }
+            long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesAntes;
+            System.out.printf("Alocação com Builder: %5.1f bytes/pedido%n", (double) bytes / pedidos);
+        }
+
+        System.out.printf("Histórico sem cardápio: %5.1f bytes/pedido retidos%n", retidoPorPedido(pedidos, false));
+        System.out.printf("Histórico com cardápio: %5.1f bytes/pedido retidos%n", retidoPorPedido(pedidos, true));
+    }
+
+    // Cada pedido recebe Strings novas, como viriam de uma requisição.
+    private static double retidoPorPedido(int pedidos, boolean usarCardapio) {
+        long antes = memoriaUsada();
+        Pedido[] historico = new Pedido[pedidos];
+        for (int i = 0; i < pedidos; i++) {
+            Pedido.Builder builder = new Pedido.Builder()
+                    .sanduiche(new String(Cardapio.SANDUICHES.get(i % Cardapio.SANDUICHES.size())))
+                    .acompanhamento(new String(Cardapio.ACOMPANHAMENTOS.get(i % Cardapio.ACOMPANHAMENTOS.size())))
+                    .bebida(new String(Cardapio.BEBIDAS.get(i % Cardapio.BEBIDAS.size())));
+            if (usarCardapio) {
+                builder.usarCardapio();
+            }
+            historico[i] = builder.build();
+        }
+        long retido = memoriaUsada() - antes;
+        Reference.reachabilityFence(historico);
+        return (double) retido / pedidos;
+    }
+
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
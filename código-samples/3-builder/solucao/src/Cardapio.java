@@ -0,0 +1,33 @@
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Itens do cardápio. O conjunto é pequeno e fechado, então cada nome pode
+ * ter uma única instância de String compartilhada por todos os pedidos.
+ */
+public final class Cardapio {
+    public static final List<String> SANDUICHES = List.of("Cheeseburger", "Hamburger", "Veggie", "Frango Crispy");
+    public static final List<String> ACOMPANHAMENTOS = List.of("Batata", "Salada", "Nuggets", "Onion Rings");
+    public static final List<String> BEBIDAS = List.of("Refrigerante", "Suco", "Água", "Milkshake");
+    public static final List<String> BRINQUEDOS = List.of("Boneco", "Carrinho", "Quebra-cabeça");
+
+    private static final Map<String, String> CANONICOS = new HashMap<>();
+
+    static {
+        for (List<String> itens : List.of(SANDUICHES, ACOMPANHAMENTOS, BEBIDAS, BRINQUEDOS)) {
+            for (String item : itens) {
+                CANONICOS.put(item, item);
+            }
+        }
+    }
+
+    private Cardapio() {
+    }
+
+    // Devolve a instância compartilhada do item; nomes fora do cardápio são devolvidos como vieram.
+    public static String canonico(String item) {
+        String canonico = item != null ? CANONICOS.get(item) : null;
+        return canonico != null ? canonico : item;
+    }
+}
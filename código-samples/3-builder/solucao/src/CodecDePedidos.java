@@ -0,0 +1,99 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê e grava lotes de pedidos em arquivo no formato compacto do PedidoCompacto.
+ * Formato: "PDC1", quantidade de pedidos (int) e um long por pedido.
+ * A escrita e a leitura passam por um único buffer reaproveitado.
+ */
+public final class CodecDePedidos {
+    private static final int ASSINATURA = 0x50444331; // "PDC1"
+    private static final int PEDIDOS_POR_BLOCO = 8 * 1024;
+
+    private CodecDePedidos() {
+    }
+
+    public static void escrever(Path arquivo, List<Pedido> pedidos) throws IOException {
+        long[] codigos = new long[pedidos.size()];
+        for (int i = 0; i < codigos.length; i++) {
+            codigos[i] = PedidoCompacto.codificar(pedidos.get(i));
+        }
+        escrever(arquivo, codigos);
+    }
+
+    public static void escrever(Path arquivo, long[] codigos) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(PEDIDOS_POR_BLOCO * Long.BYTES);
+            buffer.putInt(ASSINATURA).putInt(codigos.length);
+            for (long codigo : codigos) {
+                if (!buffer.hasRemaining()) {
+                    esvaziar(canal, buffer);
+                }
+                buffer.putLong(codigo);
+            }
+            esvaziar(canal, buffer);
+        }
+    }
+
+    public static List<Pedido> ler(Path arquivo) throws IOException {
+        long[] codigos = lerCodigos(arquivo);
+        List<Pedido> pedidos = new ArrayList<>(codigos.length);
+        for (long codigo : codigos) {
+            pedidos.add(PedidoCompacto.decodificar(codigo));
+        }
+        return pedidos;
+    }
+
+    public static long[] lerCodigos(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(PEDIDOS_POR_BLOCO * Long.BYTES);
+            buffer.limit(2 * Integer.BYTES);
+            preencher(canal, buffer);
+            if (buffer.getInt() != ASSINATURA) {
+                throw new IOException("Arquivo não é um lote de pedidos: " + arquivo);
+            }
+            // A quantidade vem do arquivo: confere com o tamanho real antes de alocar.
+            int quantidade = buffer.getInt();
+            long bytesRestantes = canal.size() - 2 * Integer.BYTES;
+            if (quantidade < 0 || (long) quantidade * Long.BYTES > bytesRestantes) {
+                throw new IOException("Quantidade de pedidos inválida (" + quantidade + ") para o tamanho de " + arquivo);
+            }
+            long[] codigos = new long[quantidade];
+
+            int lidos = 0;
+            while (lidos < codigos.length) {
+                buffer.clear();
+                buffer.limit(Math.min(buffer.capacity(), (codigos.length - lidos) * Long.BYTES));
+                preencher(canal, buffer);
+                while (buffer.hasRemaining()) {
+                    codigos[lidos++] = buffer.getLong();
+                }
+            }
+            return codigos;
+        }
+    }
+
+    private static void esvaziar(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Lê até encher o buffer (até o limite) e o deixa pronto para leitura.
+    private static void preencher(FileChannel canal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (canal.read(buffer) < 0) {
+                throw new IOException("Arquivo de pedidos truncado.");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -1,7 +1,11 @@
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         Pedido pedido1 = new Pedido.Builder()
                 .sanduiche("Cheeseburger")
                 .acompanhamento("Batata")
@@ -26,5 +30,17 @@ public class Main {
         pedido1.exibir();
         pedido2.exibir();
         pedido3.exibir();
+
+        // Histórico de pedidos gravado em formato compacto (8 bytes por pedido) e lido de volta.
+        Path arquivo = Files.createTempFile("pedidos", ".bin");
+        try {
+            CodecDePedidos.escrever(arquivo, List.of(pedido1, pedido2, pedido3));
+            System.out.println("\nArquivo com " + Files.size(arquivo) + " bytes. Pedidos lidos de volta:");
+            for (Pedido pedido : CodecDePedidos.ler(arquivo)) {
+                pedido.exibir();
+            }
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
     }
 }
\ No newline at end of file
@@ -1,3 +1,5 @@
+import java.util.List;
+
 public class Pedido {
     private String sanduiche;
     private String acompanhamento;
@@ -13,6 +15,26 @@ public class Pedido {
         this.desconto = builder.desconto;
     }
 
+    public String getSanduiche() {
+        return sanduiche;
+    }
+
+    public String getAcompanhamento() {
+        return acompanhamento;
+    }
+
+    public String getBebida() {
+        return bebida;
+    }
+
+    public String getBrinquedo() {
+        return brinquedo;
+    }
+
+    public float getDesconto() {
+        return desconto;
+    }
+
     public void exibir() {
         System.out.println("Pedido:");
         System.out.println("Sanduíche: " + sanduiche);
@@ -28,24 +50,37 @@ public class Pedido {
         private String bebida;
         private String brinquedo;
         public float desconto;
+        // Um bit por item preenchido, para que build() não precise testar cada campo.
+        private int itensPreenchidos;
+        private boolean usarCardapio;
+
+        /**
+         * Faz o pedido guardar as instâncias compartilhadas do Cardapio em vez
+         * das Strings recebidas. Vale para todos os itens, em qualquer ordem de
+         * chamada: a troca é feita no build().
+         */
+        public Builder usarCardapio() {
+            this.usarCardapio = true;
+            return this;
+        }
 
         public Builder sanduiche(String sanduiche) {
-            this.sanduiche = sanduiche;
+            this.sanduiche = item(Cardapio.SANDUICHES, sanduiche, 1);
             return this;
         }
 
         public Builder acompanhamento(String acompanhamento) {
-            this.acompanhamento = acompanhamento;
+            this.acompanhamento = item(Cardapio.ACOMPANHAMENTOS, acompanhamento, 2);
             return this;
         }
 
         public Builder bebida(String bebida) {
-            this.bebida = bebida;
+            this.bebida = item(Cardapio.BEBIDAS, bebida, 4);
             return this;
         }
 
         public Builder brinquedo(String brinquedo) {
-            this.brinquedo = brinquedo;
+            this.brinquedo = item(Cardapio.BRINQUEDOS, brinquedo, 8);
             return this;
         }
 
@@ -55,13 +90,31 @@ public class Pedido {
         }
 
         public Pedido build() {
-            if (this.sanduiche == null
-            && this.acompanhamento == null
-            && this.bebida == null
-            && this.brinquedo == null) {
+            if (itensPreenchidos == 0) {
                 throw new RuntimeException("Sanduiche, acompanhamento, or bebida should be provided");
             }
+            if (usarCardapio) {
+                sanduiche = Cardapio.canonico(sanduiche);
+                acompanhamento = Cardapio.canonico(acompanhamento);
+                bebida = Cardapio.canonico(bebida);
+                brinquedo = Cardapio.canonico(brinquedo);
+            }
             return new Pedido(this);
         }
+
+        // Só aceita itens do cardápio: todo Pedido criado pode ser gravado pelo PedidoCompacto.
+        // A checagem fica aqui, e não no build(), para que o build() continue pequeno o
+        // bastante para o JIT incorporá-lo e eliminar o builder.
+        private String item(List<String> categoria, String valor, int bit) {
+            if (valor != null) {
+                if (!categoria.contains(valor)) {
+                    throw new IllegalArgumentException("Item fora do cardápio: " + valor);
+                }
+                itensPreenchidos |= bit;
+            } else {
+                itensPreenchidos &= ~bit;
+            }
+            return valor;
+        }
     }
-}
\ No newline at end of file
+}
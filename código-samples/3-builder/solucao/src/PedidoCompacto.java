@@ -0,0 +1,89 @@
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Representação compacta de um Pedido em um único long: cada item vira seu
+ * código fixo (um byte, 0 = nenhum) e o desconto ocupa os 32 bits restantes.
+ * Milhões de pedidos históricos cabem em um long[] de 8 bytes por pedido, sem
+ * um objeto e quatro Strings para cada um.
+ *
+ * Os códigos estão escritos aqui e não dependem da posição do item no
+ * Cardapio: arquivos já gravados continuam valendo se o cardápio for
+ * reordenado. Um código nunca é reaproveitado; um item novo recebe o próximo
+ * número livre da sua categoria.
+ */
+public final class PedidoCompacto {
+    private static final Codigos SANDUICHES = new Codigos(Cardapio.SANDUICHES, Map.of(
+            "Cheeseburger", 1, "Hamburger", 2, "Veggie", 3, "Frango Crispy", 4));
+    private static final Codigos ACOMPANHAMENTOS = new Codigos(Cardapio.ACOMPANHAMENTOS, Map.of(
+            "Batata", 1, "Salada", 2, "Nuggets", 3, "Onion Rings", 4));
+    private static final Codigos BEBIDAS = new Codigos(Cardapio.BEBIDAS, Map.of(
+            "Refrigerante", 1, "Suco", 2, "Água", 3, "Milkshake", 4));
+    private static final Codigos BRINQUEDOS = new Codigos(Cardapio.BRINQUEDOS, Map.of(
+            "Boneco", 1, "Carrinho", 2, "Quebra-cabeça", 3));
+
+    private PedidoCompacto() {
+    }
+
+    public static long codificar(Pedido pedido) {
+        int itens = SANDUICHES.codigoDe(pedido.getSanduiche())
+                | ACOMPANHAMENTOS.codigoDe(pedido.getAcompanhamento()) << 8
+                | BEBIDAS.codigoDe(pedido.getBebida()) << 16
+                | BRINQUEDOS.codigoDe(pedido.getBrinquedo()) << 24;
+        return (long) itens << 32 | (Float.floatToIntBits(pedido.getDesconto()) & 0xFFFFFFFFL);
+    }
+
+    public static Pedido decodificar(long codigo) {
+        int itens = (int) (codigo >>> 32);
+        return new Pedido.Builder()
+                .sanduiche(SANDUICHES.itemDe(itens))
+                .acompanhamento(ACOMPANHAMENTOS.itemDe(itens >>> 8))
+                .bebida(BEBIDAS.itemDe(itens >>> 16))
+                .brinquedo(BRINQUEDOS.itemDe(itens >>> 24))
+                .desconto(Float.intBitsToFloat((int) codigo))
+                .build();
+    }
+
+    // Códigos de uma categoria, nos dois sentidos.
+    private static final class Codigos {
+        private final Map<String, Integer> codigos;
+        private final String[] itens = new String[256];
+
+        Codigos(List<String> doCardapio, Map<String, Integer> codigos) {
+            this.codigos = new HashMap<>(codigos);
+            for (Map.Entry<String, Integer> entrada : codigos.entrySet()) {
+                int codigo = entrada.getValue();
+                if (codigo < 1 || codigo > 255 || itens[codigo] != null) {
+                    throw new IllegalStateException("Código inválido ou repetido: " + entrada);
+                }
+                itens[codigo] = entrada.getKey();
+            }
+            // Item novo no cardápio sem código aqui: falha na carga, não ao gravar o primeiro pedido.
+            for (String item : doCardapio) {
+                if (!codigos.containsKey(item)) {
+                    throw new IllegalStateException("Item do cardápio sem código no formato compacto: " + item);
+                }
+            }
+        }
+
+        int codigoDe(String item) {
+            if (item == null) {
+                return 0;
+            }
+            Integer codigo = codigos.get(item);
+            if (codigo == null) {
+                throw new IllegalArgumentException("Item fora do cardápio: " + item);
+            }
+            return codigo;
+        }
+
+        String itemDe(int codigo) {
+            int valor = codigo & 0xFF;
+            if (valor != 0 && itens[valor] == null) {
+                throw new IllegalArgumentException("Código de item inválido: " + valor);
+            }
+            return itens[valor];
+        }
+    }
+}
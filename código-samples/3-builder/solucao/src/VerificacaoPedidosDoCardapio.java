@@ -0,0 +1,86 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Verifica que o Builder recusa itens fora do cardápio e que todo Pedido que
+ * ele aceita pode ser gravado e lido de volta pelo CodecDePedidos.
+ * Termina com status 1 se alguma verificação falhar.
+ *
+ * Execução: java VerificacaoPedidosDoCardapio
+ */
+public class VerificacaoPedidosDoCardapio {
+    private static int falhas;
+
+    public static void main(String[] args) throws Exception {
+        recusa("sanduíche", () -> new Pedido.Builder().sanduiche("X-Tudo").build());
+        recusa("acompanhamento", () -> new Pedido.Builder().sanduiche("Veggie").acompanhamento("Mandioca").build());
+        recusa("bebida", () -> new Pedido.Builder().bebida("Café").build());
+        recusa("brinquedo", () -> new Pedido.Builder().sanduiche("Veggie").brinquedo("Pião").build());
+        recusa("item de outra categoria", () -> new Pedido.Builder().sanduiche("Batata").build());
+
+        // Todas as combinações do cardápio (com e sem cada item) passam pelo codec sem perda.
+        List<Pedido> pedidos = new ArrayList<>();
+        for (String sanduiche : comNenhum(Cardapio.SANDUICHES)) {
+            for (String acompanhamento : comNenhum(Cardapio.ACOMPANHAMENTOS)) {
+                for (String bebida : comNenhum(Cardapio.BEBIDAS)) {
+                    for (String brinquedo : comNenhum(Cardapio.BRINQUEDOS)) {
+                        if (sanduiche == null && acompanhamento == null && bebida == null && brinquedo == null) {
+                            continue;
+                        }
+                        pedidos.add(new Pedido.Builder().sanduiche(sanduiche).acompanhamento(acompanhamento)
+                                .bebida(bebida).brinquedo(brinquedo).desconto(0.1f).build());
+                    }
+                }
+            }
+        }
+        Path arquivo = Files.createTempFile("pedidos", ".bin");
+        try {
+            CodecDePedidos.escrever(arquivo, pedidos);
+            List<Pedido> lidos = CodecDePedidos.ler(arquivo);
+            for (int i = 0; i < pedidos.size(); i++) {
+                if (!iguais(pedidos.get(i), lidos.get(i))) {
+                    falhar("pedido " + i + " mudou ao passar pelo codec");
+                }
+            }
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+
+        System.out.println(pedidos.size() + " pedidos gravados e lidos; " + falhas + " falha(s)");
+        if (falhas > 0) {
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+
+    private static void recusa(String caso, Runnable criar) {
+        try {
+            criar.run();
+            falhar("o Builder aceitou " + caso + " fora do cardápio");
+        } catch (IllegalArgumentException e) {
+            // Esperado.
+        }
+    }
+
+    private static List<String> comNenhum(List<String> itens) {
+        List<String> opcoes = new ArrayList<>(itens);
+        opcoes.add(null);
+        return opcoes;
+    }
+
+    private static boolean iguais(Pedido a, Pedido b) {
+        return Objects.equals(a.getSanduiche(), b.getSanduiche())
+                && Objects.equals(a.getAcompanhamento(), b.getAcompanhamento())
+                && Objects.equals(a.getBebida(), b.getBebida())
+                && Objects.equals(a.getBrinquedo(), b.getBrinquedo())
+                && a.getDesconto() == b.getDesconto();
+    }
+
+    private static void falhar(String mensagem) {
+        falhas++;
+        System.out.println("FALHOU: " + mensagem);
+    }
+}
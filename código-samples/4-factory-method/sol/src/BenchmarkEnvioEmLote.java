@@ -0,0 +1,44 @@
+import abstratas.NotificacaoSMSCreator;
+import concretas.Envio;
+import concretas.ProvedorSMSLocal;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Compara o envio de uma campanha por SMS mensagem a mensagem (notificar)
+ * com o envio em lote (notificarTodos), usando o provedor local com um custo
+ * fixo por requisição.
+ *
+ * Execução: java BenchmarkEnvioEmLote [mensagens] [custoPorChamadaMicros]
+ */
+public class BenchmarkEnvioEmLote {
+
+    public static void main(String[] args) {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long custoMicros = args.length > 1 ? Long.parseLong(args[1]) : 20;
+        System.out.println(quantidade + " SMS, " + custoMicros + " µs por chamada ao provedor");
+
+        ProvedorSMSLocal provedor = new ProvedorSMSLocal(custoMicros, false);
+        NotificacaoSMSCreator porMensagem = new NotificacaoSMSCreator(provedor);
+        long inicio = System.nanoTime();
+        campanha(quantidade).forEach(envio -> porMensagem.notificar(envio.getDestinatario(), envio.getMensagem()));
+        imprimir("Uma mensagem por vez", quantidade, System.nanoTime() - inicio, provedor.getChamadas());
+
+        ProvedorSMSLocal provedorLote = new ProvedorSMSLocal(custoMicros, false);
+        NotificacaoSMSCreator emLote = new NotificacaoSMSCreator(provedorLote);
+        inicio = System.nanoTime();
+        emLote.notificarTodos(campanha(quantidade));
+        imprimir("Em lote", quantidade, System.nanoTime() - inicio, provedorLote.getChamadas());
+    }
+
+    private static Stream<Envio> campanha(int quantidade) {
+        return IntStream.range(0, quantidade)
+                .mapToObj(i -> new Envio("+55 81 9" + (10_000_000 + i), "Promoção exclusiva para você!"));
+    }
+
+    private static void imprimir(String nome, int quantidade, long duracaoNanos, long chamadas) {
+        System.out.printf("%-20s: %,12.0f mensagens/s (%,d chamadas ao provedor)%n",
+                nome, quantidade / (duracaoNanos / 1e9), chamadas);
+    }
+}
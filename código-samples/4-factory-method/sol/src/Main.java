@@ -1,21 +1,25 @@
 import abstratas.NotificacaoCreator;
-import abstratas.NotificacaoEmailCreator;
-import abstratas.NotificacaoPushCreator;
-import abstratas.NotificacaoSMSCreator;
-import abstratas.NotificacaoTelefoneCreator;
+import abstratas.RegistroDeNotificacoes;
+import abstratas.StatusDeEntrega;
+import concretas.Envio;
+
+import java.util.stream.Stream;
 
 public class Main {
     public static void main(String[] args) {
+        RegistroDeNotificacoes registro = RegistroDeNotificacoes.padrao();
+
         String tipo = "push"; // simula entrada do usuário
-        NotificacaoCreator creator = switch (tipo) {
-            case "email" -> new NotificacaoEmailCreator();
-            case "sms" -> new NotificacaoSMSCreator();
-            case "push" -> new NotificacaoPushCreator();
-            case "telefone" -> new NotificacaoTelefoneCreator();
-            default -> throw new IllegalArgumentException("Tipo inválido");
-        };
+        NotificacaoCreator creator = registro.obter(tipo);
+
+        StatusDeEntrega status = creator.notificar("Bem-vindo ao sistema!");
+        System.out.println(status);
 
-        creator.notificar("Bem-vindo ao sistema!");
-        System.out.println(creator.checarNotificado());
+        // Campanha: vários destinatários enviados em lote pelo canal de SMS.
+        long entregues = registro.obter("sms").notificarTodos(Stream.of(
+                new Envio("+55 81 91111-1111", "Promoção de inverno!"),
+                new Envio("+55 81 92222-2222", "Promoção de inverno!"),
+                new Envio("+55 81 93333-3333", "Promoção de inverno!")));
+        System.out.println(entregues + " SMS entregues");
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,111 @@
 package abstratas;
 
+import concretas.Envio;
 import concretas.Notificacao;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
 public abstract class NotificacaoCreator {
+    // Quantas instâncias de canais com estado ficam guardadas para reaproveitamento.
+    private static final int MAXIMO_NO_POOL = 8;
 
-    private boolean notificado;
+    // Instância única, usada quando o canal não tem estado.
+    private volatile Notificacao compartilhada;
+    // Instâncias livres de canais com estado.
+    private final Queue<Notificacao> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tamanhoDoPool = new AtomicInteger();
 
     public abstract Notificacao criarNotificacao();
 
-    public void notificar(String mensagem) {
-        Notificacao notificacao = criarNotificacao();
-        notificacao.enviar(mensagem);
-        notificado = true;
+    /**
+     * Envia a mensagem e devolve o status dessa entrega. O criador não guarda
+     * estado por mensagem, então pode ser usado por várias threads ao mesmo tempo.
+     */
+    public StatusDeEntrega notificar(String mensagem) {
+        return notificar(null, mensagem);
     }
 
-    public boolean checarNotificado() {
-        return notificado;
+    // Como notificar(mensagem), mas endereçada a um destinatário.
+    public StatusDeEntrega notificar(String destinatario, String mensagem) {
+        Notificacao notificacao = obterNotificacao();
+        try {
+            notificacao.enviar(destinatario, mensagem);
+            return StatusDeEntrega.ENTREGUE;
+        } catch (RuntimeException e) {
+            System.err.println("Falha ao enviar notificação: " + e.getMessage());
+            return StatusDeEntrega.FALHOU;
+        } finally {
+            devolverNotificacao(notificacao);
+        }
+    }
+
+    /**
+     * Envia uma sequência de (destinatário, mensagem) agrupando-a em lotes do
+     * tamanho que o canal aceita, com uma única instância do canal para todos.
+     * Devolve quantas mensagens foram entregues, contando as entregas
+     * parciais de cada lote; um lote que falha não interrompe os seguintes.
+     */
+    public long notificarTodos(Stream<Envio> envios) {
+        Notificacao notificacao = obterNotificacao();
+        try {
+            int tamanhoDoLote = notificacao.getTamanhoMaximoDoLote();
+            List<Envio> lote = new ArrayList<>(tamanhoDoLote);
+            long entregues = 0;
+            Iterator<Envio> it = envios.iterator();
+            while (it.hasNext()) {
+                lote.add(it.next());
+                if (lote.size() == tamanhoDoLote || !it.hasNext()) {
+                    entregues += enviarLote(notificacao, lote);
+                    lote.clear();
+                }
+            }
+            return entregues;
+        } finally {
+            devolverNotificacao(notificacao);
+        }
+    }
+
+    private static int enviarLote(Notificacao notificacao, List<Envio> lote) {
+        try {
+            return notificacao.enviarLote(lote);
+        } catch (RuntimeException e) {
+            System.err.println("Falha ao enviar lote de " + lote.size() + " notificações: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private Notificacao obterNotificacao() {
+        Notificacao notificacao = compartilhada;
+        if (notificacao != null) {
+            return notificacao;
+        }
+        notificacao = pool.poll();
+        if (notificacao != null) {
+            tamanhoDoPool.decrementAndGet();
+            return notificacao;
+        }
+        notificacao = criarNotificacao();
+        if (notificacao.isCompartilhavel()) {
+            // Se duas threads criarem ao mesmo tempo, uma das instâncias é simplesmente descartada.
+            compartilhada = notificacao;
+        }
+        return notificacao;
     }
-}
 
+    private void devolverNotificacao(Notificacao notificacao) {
+        if (notificacao.isCompartilhavel()) {
+            return;
+        }
+        if (tamanhoDoPool.incrementAndGet() <= MAXIMO_NO_POOL) {
+            pool.offer(notificacao);
+        } else {
+            tamanhoDoPool.decrementAndGet();
+        }
+    }
+}
@@ -2,9 +2,20 @@ package abstratas;
 
 import concretas.Notificacao;
 import concretas.NotificacaoSMS;
+import concretas.ProvedorSMSLocal;
 
 public class NotificacaoSMSCreator extends NotificacaoCreator {
+    private final ProvedorSMSLocal provedor;
+
+    public NotificacaoSMSCreator() {
+        this(new ProvedorSMSLocal());
+    }
+
+    public NotificacaoSMSCreator(ProvedorSMSLocal provedor) {
+        this.provedor = provedor;
+    }
+
     public Notificacao criarNotificacao() {
-        return new NotificacaoSMS();
+        return new NotificacaoSMS(provedor);
     }
 }
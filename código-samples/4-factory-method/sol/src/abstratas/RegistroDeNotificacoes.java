@@ -0,0 +1,35 @@
+package abstratas;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de criadores por tipo ("email", "sms", ...). Cada tipo tem um único
+ * criador, reaproveitado em todas as mensagens, e a busca é feita em O(1),
+ * em vez de um switch que instancia um criador novo a cada pedido.
+ */
+public class RegistroDeNotificacoes {
+    private final Map<String, NotificacaoCreator> criadores = new ConcurrentHashMap<>();
+
+    // Registro com os canais disponíveis no sistema.
+    public static RegistroDeNotificacoes padrao() {
+        RegistroDeNotificacoes registro = new RegistroDeNotificacoes();
+        registro.registrar("email", new NotificacaoEmailCreator());
+        registro.registrar("sms", new NotificacaoSMSCreator());
+        registro.registrar("push", new NotificacaoPushCreator());
+        registro.registrar("telefone", new NotificacaoTelefoneCreator());
+        return registro;
+    }
+
+    public void registrar(String tipo, NotificacaoCreator criador) {
+        criadores.put(tipo, criador);
+    }
+
+    public NotificacaoCreator obter(String tipo) {
+        NotificacaoCreator criador = criadores.get(tipo);
+        if (criador == null) {
+            throw new IllegalArgumentException("Tipo inválido");
+        }
+        return criador;
+    }
+}
@@ -0,0 +1,7 @@
+package abstratas;
+
+// Situação de uma mensagem enviada por um NotificacaoCreator.
+public enum StatusDeEntrega {
+    ENTREGUE,
+    FALHOU
+}
@@ -0,0 +1,20 @@
+package concretas;
+
+// Uma mensagem e seu destinatário, para envios em lote.
+public class Envio {
+    private final String destinatario;
+    private final String mensagem;
+
+    public Envio(String destinatario, String mensagem) {
+        this.destinatario = destinatario;
+        this.mensagem = mensagem;
+    }
+
+    public String getDestinatario() {
+        return destinatario;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+}
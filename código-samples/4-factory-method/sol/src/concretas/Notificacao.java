@@ -1,5 +1,36 @@
 package concretas;
 
+import java.util.List;
+
 public interface Notificacao {
     void enviar(String mensagem);
+
+    // Envia a mensagem a um destinatário. Com destinatário nulo, equivale a enviar(mensagem).
+    void enviar(String destinatario, String mensagem);
+
+    // Envia várias mensagens e devolve quantas foram entregues. Por padrão, uma a uma, e a
+    // falha de uma não impede as demais; canais cujo provedor aceita lotes sobrescrevem.
+    default int enviarLote(List<Envio> envios) {
+        int entregues = 0;
+        for (Envio envio : envios) {
+            try {
+                enviar(envio.getDestinatario(), envio.getMensagem());
+                entregues++;
+            } catch (RuntimeException e) {
+                System.err.println("Falha ao enviar notificação para " + envio.getDestinatario() + ": " + e.getMessage());
+            }
+        }
+        return entregues;
+    }
+
+    // Quantas mensagens o canal aceita em cada chamada de enviarLote.
+    default int getTamanhoMaximoDoLote() {
+        return 100;
+    }
+
+    // Canais sem estado podem ter uma única instância compartilhada entre mensagens e threads.
+    // Por padrão não: só os canais que sabidamente não guardam estado por envio declaram que sim.
+    default boolean isCompartilhavel() {
+        return false;
+    }
 }
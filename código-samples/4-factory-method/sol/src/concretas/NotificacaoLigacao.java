@@ -4,4 +4,19 @@ public class NotificacaoLigacao implements Notificacao {
     public void enviar(String mensagem) {
         System.out.println("Enviando por Telefone: " + mensagem);
     }
+
+    @Override
+    public void enviar(String destinatario, String mensagem) {
+        if (destinatario == null) {
+            enviar(mensagem);
+        } else {
+            System.out.println("Enviando por Telefone para " + destinatario + ": " + mensagem);
+        }
+    }
+
+    // Uma ligação ocupa a linha enquanto a mensagem é falada: cada envio precisa da sua instância.
+    @Override
+    public boolean isCompartilhavel() {
+        return false;
+    }
 }
@@ -6,4 +6,19 @@ public class NotificacaoPush implements Notificacao {
         System.out.println("Enviando por PUSH: " + mensagem);
     }
 
+    @Override
+    public void enviar(String destinatario, String mensagem) {
+        if (destinatario == null) {
+            enviar(mensagem);
+        } else {
+            System.out.println("Enviando por PUSH para " + destinatario + ": " + mensagem);
+        }
+    }
+
+    // Não guarda nada entre envios.
+    @Override
+    public boolean isCompartilhavel() {
+        return true;
+    }
+
 }
\ No newline at end of file
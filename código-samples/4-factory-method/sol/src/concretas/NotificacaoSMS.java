@@ -1,8 +1,43 @@
 package concretas;
 
+import java.util.List;
+
 public class NotificacaoSMS implements Notificacao {
+    private final ProvedorSMSLocal provedor;
+
+    public NotificacaoSMS() {
+        this(new ProvedorSMSLocal());
+    }
+
+    public NotificacaoSMS(ProvedorSMSLocal provedor) {
+        this.provedor = provedor;
+    }
+
     public void enviar(String mensagem) {
-        System.out.println("Enviando por SMS: " + mensagem);
+        enviar(null, mensagem);
     }
 
-}
\ No newline at end of file
+    @Override
+    public void enviar(String destinatario, String mensagem) {
+        provedor.enviar(List.of(new Envio(destinatario, mensagem)));
+    }
+
+    // O provedor aceita vários SMS por requisição: o lote vai em uma única chamada,
+    // que entrega todas as mensagens ou nenhuma.
+    @Override
+    public int enviarLote(List<Envio> envios) {
+        provedor.enviar(envios);
+        return envios.size();
+    }
+
+    @Override
+    public int getTamanhoMaximoDoLote() {
+        return ProvedorSMSLocal.MAXIMO_POR_CHAMADA;
+    }
+
+    // O único campo é o provedor, que pode ser usado por várias threads ao mesmo tempo.
+    @Override
+    public boolean isCompartilhavel() {
+        return true;
+    }
+}
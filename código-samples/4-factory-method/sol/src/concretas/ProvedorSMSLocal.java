@@ -0,0 +1,55 @@
+package concretas;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simulação local de um provedor de SMS. Como um provedor real, aceita até
+ * MAXIMO_POR_CHAMADA mensagens por requisição e cobra um custo fixo por
+ * requisição (rede, autenticação), qualquer que seja o tamanho do lote.
+ */
+public class ProvedorSMSLocal {
+    public static final int MAXIMO_POR_CHAMADA = 1000;
+
+    private final long custoPorChamadaNanos;
+    private final boolean exibirMensagens;
+    private final LongAdder chamadas = new LongAdder();
+    private final LongAdder mensagens = new LongAdder();
+
+    public ProvedorSMSLocal() {
+        this(0, true);
+    }
+
+    public ProvedorSMSLocal(long custoPorChamadaMicros, boolean exibirMensagens) {
+        this.custoPorChamadaNanos = TimeUnit.MICROSECONDS.toNanos(custoPorChamadaMicros);
+        this.exibirMensagens = exibirMensagens;
+    }
+
+    public void enviar(List<Envio> envios) {
+        if (envios.size() > MAXIMO_POR_CHAMADA) {
+            throw new IllegalArgumentException("O provedor aceita no máximo " + MAXIMO_POR_CHAMADA + " SMS por chamada");
+        }
+        // Espera ativa: simula o custo da requisição com mais precisão que um sleep.
+        long fim = System.nanoTime() + custoPorChamadaNanos;
+        while (System.nanoTime() < fim) {
+            Thread.onSpinWait();
+        }
+        if (exibirMensagens) {
+            for (Envio envio : envios) {
+                String destinatario = envio.getDestinatario() != null ? "[" + envio.getDestinatario() + "] " : "";
+                System.out.println("Enviando por SMS: " + destinatario + envio.getMensagem());
+            }
+        }
+        chamadas.increment();
+        mensagens.add(envios.size());
+    }
+
+    public long getChamadas() {
+        return chamadas.sum();
+    }
+
+    public long getMensagens() {
+        return mensagens.sum();
+    }
+}
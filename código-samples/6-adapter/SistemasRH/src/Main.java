@@ -1,9 +1,15 @@
 import adapter.FuncionarioAdapter;
 import adapter.XmlToJsonAdapter;
+import adapter.XmlToJsonLoteAdapter;
 import models.JSONObject;
 import models.XMLDocument;
 import sistema.SistemaDeAnalise;
 
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
 public class Main {
     public static void main(String[] args) {
         // 1. Recebemos os dados do sistema legado no formato XML.
@@ -32,5 +38,28 @@ public class Main {
         // 4. Agora, com os dados no formato correto, podemos usá-los no nosso sistema.
         SistemaDeAnalise sistema = new SistemaDeAnalise();
         sistema.processarDados(dadosJson);
+        System.out.println("--------------------------------------------------------------------");
+
+        // 5. Em lote: um arquivo de folha de pagamento com vários funcionários
+        // é convertido aos poucos, registro a registro.
+        String folhaEmXml = """
+            <folha>
+                <funcionario><nome>Maria Joaquina</nome><cargo>Gerente de Projetos</cargo></funcionario>
+                <funcionario><nome>Cirilo</nome><cargo>Desenvolvedor</cargo></funcionario>
+                <funcionario><nome>Valéria</nome><cargo>Analista de RH</cargo></funcionario>
+            </folha>
+        """;
+        XmlToJsonLoteAdapter adaptadorEmLote = new XmlToJsonLoteAdapter(
+                new ByteArrayInputStream(folhaEmXml.getBytes(StandardCharsets.UTF_8)));
+        try (Stream<JSONObject> registros = adaptadorEmLote.converter()) {
+            sistema.processarDados(registros);
+        }
+
+        // 6. Exportação: os registros são escritos direto na saída, sem montar Strings.
+        XmlToJsonLoteAdapter adaptadorParaExportar = new XmlToJsonLoteAdapter(
+                new ByteArrayInputStream(folhaEmXml.getBytes(StandardCharsets.UTF_8)));
+        try (Stream<JSONObject> registros = adaptadorParaExportar.converter()) {
+            sistema.exportarDados(registros, Channels.newChannel(System.out));
+        }
     }
 }
\ No newline at end of file
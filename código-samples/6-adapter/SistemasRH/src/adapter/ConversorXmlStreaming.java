@@ -0,0 +1,408 @@
+package adapter;
+
+import models.JSONObject;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Conversor de XML para JSON em uma única passada (StAX).
+ * Em vez de fatiar a String inteira com split() para cada tag, lê o documento
+ * como um fluxo de eventos e extrai todas as tags desejadas na mesma varredura,
+ * entregando um models.JSONObject por registro encontrado.
+ */
+public class ConversorXmlStreaming {
+    private static final XMLInputFactory FABRICA = criarFabrica();
+    private static final String VALOR_AUSENTE = "N/A";
+
+    private final String tagRegistro;
+    private final String[] tags;
+
+    /**
+     * @param tagRegistro tag que delimita cada registro (ex.: "funcionario")
+     * @param tags        tags a extrair de cada registro, na ordem em que irão para o JSON
+     */
+    public ConversorXmlStreaming(String tagRegistro, String... tags) {
+        this.tagRegistro = tagRegistro;
+        this.tags = tags.clone();
+    }
+
+    /**
+     * Percorre o XML uma única vez e entrega cada registro ao destino assim que
+     * ele é fechado. Só os valores do registro atual ficam em memória.
+     */
+    public void converter(Reader leitor, Consumer<JSONObject> destino) {
+        try (LeitorDeRegistros registros = new LeitorDeRegistros(abrir(leitor))) {
+            registros.forEachRemaining(destino);
+        }
+    }
+
+    /**
+     * Devolve os registros sob demanda: o XML só é lido quando o próximo
+     * registro é pedido, então quem consome controla o ritmo da leitura.
+     * O iterador fecha o leitor ao chegar ao fim do documento.
+     */
+    public Iterator<JSONObject> iterar(InputStream entrada) {
+        return new LeitorDeRegistros(abrir(entrada));
+    }
+
+    /**
+     * Versão em Stream de {@link #iterar(InputStream)}. Em um stream paralelo,
+     * os registros são lidos em lotes de {@code tamanhoDoLote} e cada lote é
+     * processado em um núcleo; a leitura do XML continua sequencial. Há no
+     * máximo dois lotes por thread do pool comum lidos e ainda não processados.
+     */
+    public Stream<JSONObject> stream(InputStream entrada, int tamanhoDoLote) {
+        return stream(entrada, tamanhoDoLote, Math.max(2, 2 * ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    /**
+     * Como {@link #stream(InputStream, int)}, com no máximo {@code maximoDeLotes}
+     * lotes lidos e ainda não processados. Quando o limite é atingido, a leitura
+     * espera um lote terminar. Pensado para consumir o stream inteiro (forEach,
+     * collect...); em paralelo, findFirst e anyMatch funcionam, mas podem
+     * esperar até meio segundo por lotes que descartaram.
+     */
+    public Stream<JSONObject> stream(InputStream entrada, int tamanhoDoLote, int maximoDeLotes) {
+        if (tamanhoDoLote <= 0 || maximoDeLotes <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote e o máximo de lotes devem ser positivos.");
+        }
+        LeitorDeRegistros registros = new LeitorDeRegistros(abrir(entrada));
+        return StreamSupport.stream(new LotesSpliterator(registros, tamanhoDoLote, maximoDeLotes), false)
+                .onClose(registros::close);
+    }
+
+    /**
+     * Converte um documento com um único registro. Se o registro não existir,
+     * todas as tags ficam com "N/A", como no adaptador original.
+     */
+    public JSONObject converterDocumento(String conteudoXml) {
+        JSONObject[] primeiro = new JSONObject[1];
+        converter(new StringReader(conteudoXml), json -> {
+            if (primeiro[0] == null) {
+                primeiro[0] = json;
+            }
+        });
+        return primeiro[0] != null ? primeiro[0] : montarJson(new String[tags.length]);
+    }
+
+    private int indiceDaTag(String nome) {
+        for (int i = 0; i < tags.length; i++) {
+            if (tags[i].equals(nome)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private JSONObject montarJson(String[] valores) {
+        JSONObject json = new JSONObject();
+        for (int i = 0; i < tags.length; i++) {
+            json.put(tags[i], valores[i] != null ? valores[i] : VALOR_AUSENTE);
+        }
+        return json;
+    }
+
+    private static XMLStreamReader abrir(Reader leitor) {
+        try {
+            return FABRICA.createXMLStreamReader(leitor);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Não foi possível ler o XML: " + e.getMessage(), e);
+        }
+    }
+
+    private static XMLStreamReader abrir(InputStream entrada) {
+        try {
+            return FABRICA.createXMLStreamReader(entrada);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Não foi possível ler o XML: " + e.getMessage(), e);
+        }
+    }
+
+    private static XMLInputFactory criarFabrica() {
+        XMLInputFactory fabrica = XMLInputFactory.newInstance();
+        // Dados do sistema legado não precisam de DTD nem de entidades externas.
+        fabrica.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        fabrica.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return fabrica;
+    }
+
+    /**
+     * Iterador que avança o leitor StAX apenas até o fim do próximo registro.
+     */
+    private class LeitorDeRegistros implements Iterator<JSONObject>, AutoCloseable {
+        private final XMLStreamReader xml;
+        private JSONObject proximo;
+        private boolean fechado;
+
+        LeitorDeRegistros(XMLStreamReader xml) {
+            this.xml = xml;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (proximo == null && !fechado) {
+                proximo = lerProximoRegistro();
+                if (proximo == null) {
+                    close();
+                }
+            }
+            return proximo != null;
+        }
+
+        @Override
+        public JSONObject next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            JSONObject registro = proximo;
+            proximo = null;
+            return registro;
+        }
+
+        @Override
+        public void close() {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            try {
+                xml.close();
+            } catch (XMLStreamException e) {
+                // Nada a fazer: a leitura já terminou (ou já falhou).
+            }
+        }
+
+        private JSONObject lerProximoRegistro() {
+            try {
+                String[] valores = null;
+                int profundidade = 0;
+
+                while (xml.hasNext()) {
+                    int evento = xml.next();
+                    if (evento == XMLStreamConstants.START_ELEMENT) {
+                        profundidade++;
+                        String nome = xml.getLocalName();
+                        if (valores == null) {
+                            if (nome.equals(tagRegistro)) {
+                                valores = new String[tags.length];
+                                profundidade = 1;
+                            }
+                        } else {
+                            int indice = indiceDaTag(nome);
+                            if (indice >= 0) {
+                                // getElementText() consome o texto e o END_ELEMENT da tag.
+                                valores[indice] = xml.getElementText();
+                                profundidade--;
+                            }
+                        }
+                    } else if (evento == XMLStreamConstants.END_ELEMENT) {
+                        if (valores != null && profundidade == 1) {
+                            return montarJson(valores);
+                        }
+                        profundidade--;
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                close();
+                throw new IllegalArgumentException("XML inválido: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Divide a sequência de registros em lotes de tamanho fixo para o
+     * processamento paralelo, sem precisar conhecer o total de antemão.
+     *
+     * Como o total é desconhecido, o stream paralelo continua pedindo lotes
+     * enquanto houver registros. Cada lote ocupa uma vaga até ser processado, e
+     * trySplit espera uma vaga livre antes de ler o próximo: é isso que limita a
+     * memória. A espera usa ForkJoinPool.managedBlock, para que o pool ponha
+     * outra thread para processar os lotes enquanto esta está parada.
+     *
+     * Um lote descartado sem ser processado (findFirst ou anyMatch em paralelo)
+     * nunca devolve a vaga. Para não travar nesse caso, se nenhum registro for
+     * entregue durante ESPERA_SEM_PROGRESSO_MS, a leitura segue com um lote além
+     * do limite.
+     */
+    private static class LotesSpliterator implements Spliterator<JSONObject> {
+        private static final long ESPERA_SEM_PROGRESSO_MS = 500;
+
+        private final Iterator<JSONObject> registros;
+        private final int tamanhoDoLote;
+        private final Semaphore vagas;
+        // Registros entregues por todos os lotes; só serve para saber se o processamento anda.
+        private final LongAdder entregues = new LongAdder();
+
+        LotesSpliterator(Iterator<JSONObject> registros, int tamanhoDoLote, int maximoDeLotes) {
+            this.registros = registros;
+            this.tamanhoDoLote = tamanhoDoLote;
+            this.vagas = new Semaphore(maximoDeLotes);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JSONObject> acao) {
+            if (!registros.hasNext()) {
+                return false;
+            }
+            acao.accept(registros.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<JSONObject> trySplit() {
+            if (!registros.hasNext()) {
+                return null;
+            }
+            boolean comVaga = aguardarVaga();
+            JSONObject[] lote = new JSONObject[tamanhoDoLote];
+            int lidos = 0;
+            while (lidos < tamanhoDoLote && registros.hasNext()) {
+                lote[lidos++] = registros.next();
+            }
+            return new Lote(lote, lidos, comVaga ? vagas : null, entregues);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+        // Devolve false se seguiu sem vaga porque o processamento parou.
+        private boolean aguardarVaga() {
+            EsperaPorVaga espera = new EsperaPorVaga();
+            try {
+                ForkJoinPool.managedBlock(espera);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Leitura do XML interrompida.", e);
+            }
+            return espera.comVaga;
+        }
+
+        private class EsperaPorVaga implements ForkJoinPool.ManagedBlocker {
+            boolean comVaga;
+
+            @Override
+            public boolean isReleasable() {
+                if (!comVaga) {
+                    comVaga = vagas.tryAcquire();
+                }
+                return comVaga;
+            }
+
+            @Override
+            public boolean block() throws InterruptedException {
+                long progresso = entregues.sum();
+                while (!vagas.tryAcquire(ESPERA_SEM_PROGRESSO_MS, TimeUnit.MILLISECONDS)) {
+                    long agora = entregues.sum();
+                    if (agora == progresso) {
+                        return true; // Ninguém processa os lotes pendentes: segue sem vaga.
+                    }
+                    progresso = agora;
+                }
+                comVaga = true;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Um lote já lido. Devolve a vaga quando o último registro é entregue
+     * (ou quando o processamento do lote falha).
+     */
+    private static class Lote implements Spliterator<JSONObject> {
+        private final JSONObject[] registros;
+        private final int tamanho;
+        private final Semaphore vagas; // Nulo se o lote foi lido sem vaga.
+        private final LongAdder entregues;
+        private int indice;
+        private boolean liberado;
+
+        Lote(JSONObject[] registros, int tamanho, Semaphore vagas, LongAdder entregues) {
+            this.registros = registros;
+            this.tamanho = tamanho;
+            this.vagas = vagas;
+            this.entregues = entregues;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JSONObject> acao) {
+            if (indice >= tamanho) {
+                liberar();
+                return false;
+            }
+            try {
+                acao.accept(registros[indice++]);
+            } catch (RuntimeException | Error e) {
+                liberar();
+                throw e;
+            }
+            entregues.increment();
+            if (indice == tamanho) {
+                liberar();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super JSONObject> acao) {
+            try {
+                while (indice < tamanho) {
+                    acao.accept(registros[indice++]);
+                    entregues.increment();
+                }
+            } finally {
+                liberar();
+            }
+        }
+
+        @Override
+        public Spliterator<JSONObject> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return tamanho - indice;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | SIZED | SUBSIZED;
+        }
+
+        private void liberar() {
+            if (!liberado) {
+                liberado = true;
+                // Solta a referência aos registros junto com a vaga.
+                Arrays.fill(registros, null);
+                if (vagas != null) {
+                    vagas.release();
+                }
+            }
+        }
+    }
+}
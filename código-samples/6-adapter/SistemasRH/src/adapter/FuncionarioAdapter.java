@@ -4,29 +4,9 @@ import models.JSONObject;
 import models.XMLDocument;
 
 public class FuncionarioAdapter {
+    private static final ConversorXmlStreaming CONVERSOR = new ConversorXmlStreaming("funcionario", "nome", "cargo");
 
     public JSONObject toJSON(XMLDocument xmlDoc) {
-        JSONObject json = new JSONObject();
-
-        String xml = xmlDoc.getConteudoXML();
-
-        String nome = extrairValor(xml, "nome");
-        String cargo = extrairValor(xml, "cargo");
-
-        json.put("nome", nome);
-        json.put("cargo", cargo);
-
-        return json;
-
-    }
-
-    // Método auxiliar privado apenas para simular a extração dos dados
-    private String extrairValor(String xml, String tag) {
-        try {
-            return xml.split("<" + tag + ">")[1].split("</" + tag + ">")[0];
-        } catch (Exception e) {
-            return "N/A";
-        }
+        return CONVERSOR.converterDocumento(xmlDoc.getConteudoXML());
     }
-
 }
@@ -9,6 +9,8 @@ import models.XMLDocument;
  * Método wrapper (envelope)
  */
 public class XmlToJsonAdapter {
+    private static final ConversorXmlStreaming CONVERSOR = new ConversorXmlStreaming("funcionario", "nome", "cargo");
+
     private final XMLDocument xmlDoc;
 
     public XmlToJsonAdapter(XMLDocument xmlDoc) {
@@ -16,28 +18,12 @@ public class XmlToJsonAdapter {
     }
 
     public JSONObject converter() {
-        // Lógica de conversão simplificada para o exemplo
-        String xml = xmlDoc.getConteudoXML();
-
         System.out.println("Adaptador: iniciando conversão de XML para JSON...");
 
-        String nome = extrairValor(xml, "nome");
-        String cargo = extrairValor(xml, "cargo");
-
-        JSONObject json = new JSONObject();
-        json.put("nome", nome);
-        json.put("cargo", cargo);
+        // Uma única leitura do XML extrai todas as tags de uma vez.
+        JSONObject json = CONVERSOR.converterDocumento(xmlDoc.getConteudoXML());
 
         System.out.println("Adaptador: conversão concluída.");
         return json;
     }
-
-    // Método auxiliar privado apenas para simular a extração dos dados
-    private String extrairValor(String xml, String tag) {
-        try {
-            return xml.split("<" + tag + ">")[1].split("</" + tag + ">")[0];
-        } catch (Exception e) {
-            return "N/A";
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package adapter;
+
+import models.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador em lote: em vez de envolver um único models.XMLDocument, envolve
+ * um arquivo (ou fluxo) com vários registros <funcionario> e os entrega como
+ * um Stream de models.JSONObject. O arquivo é lido aos poucos, conforme o
+ * Stream é consumido, então nunca precisa caber inteiro na memória.
+ */
+public class XmlToJsonLoteAdapter {
+    private static final ConversorXmlStreaming CONVERSOR = new ConversorXmlStreaming("funcionario", "nome", "cargo");
+    private static final int TAMANHO_DO_LOTE_PADRAO = 1024;
+
+    private final InputStream entrada;
+    private final int tamanhoDoLote;
+
+    public XmlToJsonLoteAdapter(InputStream entrada) {
+        this(entrada, TAMANHO_DO_LOTE_PADRAO);
+    }
+
+    public XmlToJsonLoteAdapter(InputStream entrada, int tamanhoDoLote) {
+        this.entrada = entrada;
+        this.tamanhoDoLote = tamanhoDoLote;
+    }
+
+    public static XmlToJsonLoteAdapter deArquivo(Path arquivo) {
+        try {
+            return new XmlToJsonLoteAdapter(Files.newInputStream(arquivo));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir " + arquivo, e);
+        }
+    }
+
+    /**
+     * Devolve os registros convertidos. Use .parallel() para processar os lotes
+     * em vários núcleos e feche o Stream (try-with-resources) ao terminar.
+     */
+    public Stream<JSONObject> converter() {
+        return CONVERSOR.stream(entrada, tamanhoDoLote).onClose(this::fecharEntrada);
+    }
+
+    private void fecharEntrada() {
+        try {
+            entrada.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
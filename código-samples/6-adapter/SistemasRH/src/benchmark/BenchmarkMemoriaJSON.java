@@ -0,0 +1,61 @@
+package benchmark;
+
+import models.JSONObject;
+
+import java.lang.ref.Reference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara a memória ocupada por muitos registros de funcionário guardados como
+ * models.JSONObject (esquema compartilhado + array de valores) e como um
+ * LinkedHashMap por registro, que era a representação anterior.
+ * As chaves são criadas a cada registro, como chegariam de um parser.
+ *
+ * Execução: java -Xmx1g benchmark.BenchmarkMemoriaJSON [quantidade]
+ */
+public class BenchmarkMemoriaJSON {
+    private static final String[] CHAVES = {"nome", "cargo", "departamento", "matricula"};
+
+    public static void main(String[] args) {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        long antes = memoriaUsada();
+        Object[] mapas = new Object[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            Map<String, Object> mapa = new LinkedHashMap<>();
+            for (String chave : CHAVES) {
+                mapa.put(new String(chave), chave + i);
+            }
+            mapas[i] = mapa;
+        }
+        long bytesMapas = memoriaUsada() - antes;
+
+        antes = memoriaUsada();
+        Object[] jsons = new Object[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            JSONObject json = new JSONObject();
+            for (String chave : CHAVES) {
+                json.put(new String(chave), chave + i);
+            }
+            jsons[i] = json;
+        }
+        long bytesJsons = memoriaUsada() - antes;
+
+        System.out.println("Registros: " + quantidade);
+        System.out.printf("LinkedHashMap: %,d bytes (%d por registro)%n", bytesMapas, bytesMapas / quantidade);
+        System.out.printf("JSONObject:    %,d bytes (%d por registro)%n", bytesJsons, bytesJsons / quantidade);
+
+        // Mantém os registros vivos até o fim da medição.
+        Reference.reachabilityFence(mapas);
+        Reference.reachabilityFence(jsons);
+    }
+
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,104 @@
+package benchmark;
+
+import adapter.ConversorXmlStreaming;
+import models.JSONObject;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.stream.Stream;
+
+/**
+ * Verifica que um stream paralelo de ConversorXmlStreaming mantém poucos
+ * registros em memória, mesmo com um consumidor lento. O XML é gerado sob
+ * demanda, então "gerados - processados" é quantos registros foram lidos e
+ * ainda não processados. Termina com status 1 se passar do limite.
+ *
+ * Execução: java benchmark.VerificacaoLotesEmMemoria [registros]
+ */
+public class VerificacaoLotesEmMemoria {
+    private static final int TAMANHO_DO_LOTE = 100;
+    private static final int MAXIMO_DE_LOTES = 4;
+    // O parser lê a entrada em blocos: alguns registros podem estar no buffer dele.
+    private static final int FOLGA_DO_PARSER = 1_000;
+
+    public static void main(String[] args) {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        XmlGerado xml = new XmlGerado(quantidade);
+        AtomicLong processados = new AtomicLong();
+        LongAccumulator maximoEmMemoria = new LongAccumulator(Math::max, 0);
+
+        ConversorXmlStreaming conversor = new ConversorXmlStreaming("funcionario", "nome", "cargo");
+        try (Stream<JSONObject> registros = conversor.stream(xml, TAMANHO_DO_LOTE, MAXIMO_DE_LOTES)) {
+            registros.parallel().forEach(registro -> {
+                maximoEmMemoria.accumulate(xml.gerados() - processados.get());
+                // Consumidor lento: a leitura do XML fica sempre à frente se não for contida.
+                long fim = System.nanoTime() + 20_000;
+                while (System.nanoTime() < fim) {
+                    Thread.onSpinWait();
+                }
+                processados.incrementAndGet();
+            });
+        }
+
+        long limite = (long) (MAXIMO_DE_LOTES + 1) * TAMANHO_DO_LOTE + FOLGA_DO_PARSER;
+        System.out.printf("%,d registros processados; no máximo %,d em memória (limite %,d)%n",
+                processados.get(), maximoEmMemoria.get(), limite);
+        if (processados.get() != quantidade || maximoEmMemoria.get() > limite) {
+            System.out.println("FALHOU");
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+
+    // Gera <folha><funcionario>...</funcionario>...</folha> à medida que o parser lê.
+    private static class XmlGerado extends InputStream {
+        private final int quantidade;
+        private volatile int gerados;
+        private byte[] atual = "<folha>".getBytes(StandardCharsets.UTF_8);
+        private int posicao;
+        private boolean fechado;
+
+        XmlGerado(int quantidade) {
+            this.quantidade = quantidade;
+        }
+
+        long gerados() {
+            return gerados;
+        }
+
+        @Override
+        public int read() {
+            byte[] umByte = new byte[1];
+            return read(umByte, 0, 1) < 0 ? -1 : umByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int tamanho) {
+            if (posicao == atual.length && !avancar()) {
+                return -1;
+            }
+            int n = Math.min(tamanho, atual.length - posicao);
+            System.arraycopy(atual, posicao, destino, inicio, n);
+            posicao += n;
+            return n;
+        }
+
+        private boolean avancar() {
+            if (gerados < quantidade) {
+                int i = gerados;
+                atual = ("<funcionario><nome>Funcionário " + i + "</nome><cargo>Cargo " + i + "</cargo></funcionario>")
+                        .getBytes(StandardCharsets.UTF_8);
+                gerados = i + 1;
+            } else if (!fechado) {
+                atual = "</folha>".getBytes(StandardCharsets.UTF_8);
+                fechado = true;
+            } else {
+                return false;
+            }
+            posicao = 0;
+            return true;
+        }
+    }
+}
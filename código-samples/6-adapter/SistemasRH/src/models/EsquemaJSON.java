@@ -0,0 +1,104 @@
+package models;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A "forma" de um models.JSONObject: a lista ordenada de chaves.
+ * Objetos que recebem as mesmas chaves na mesma ordem compartilham a mesma
+ * instância de esquema, então as chaves (e o índice chave -> posição) existem
+ * uma única vez na memória, e cada objeto guarda apenas um array de valores.
+ *
+ * Os esquemas compartilhados nunca são descartados, então o total deles é
+ * limitado: com chaves geradas a partir dos dados, depois de
+ * MAXIMO_DE_ESQUEMAS o objeto passa a ter um esquema só seu, que cresce no
+ * lugar como um mapa comum. A chave nula é aceita, como no LinkedHashMap original.
+ */
+final class EsquemaJSON {
+    static final int MAXIMO_DE_ESQUEMAS = 4096;
+
+    private static final AtomicInteger ESQUEMAS_COMPARTILHADOS = new AtomicInteger();
+
+    static final EsquemaJSON VAZIO = new EsquemaJSON(new String[0], 0, true);
+
+    private String[] chaves;
+    private int tamanho;
+    private final boolean compartilhado;
+    private final Map<String, Integer> indices = new HashMap<>();
+    // Esquemas obtidos ao acrescentar uma chave a este; compartilhados entre threads.
+    // O ConcurrentHashMap não aceita chave nula, então essa transição fica à parte.
+    private final Map<String, EsquemaJSON> transicoes = new ConcurrentHashMap<>();
+    private volatile EsquemaJSON transicaoNula;
+
+    private EsquemaJSON(String[] chaves, int tamanho, boolean compartilhado) {
+        this.chaves = chaves;
+        this.tamanho = tamanho;
+        this.compartilhado = compartilhado;
+        for (int i = 0; i < tamanho; i++) {
+            indices.put(chaves[i], i);
+        }
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    boolean isCompartilhado() {
+        return compartilhado;
+    }
+
+    String chave(int indice) {
+        return chaves[indice];
+    }
+
+    int indiceDe(String chave) {
+        Integer indice = indices.get(chave);
+        return indice != null ? indice : -1;
+    }
+
+    /**
+     * Devolve o esquema com a nova chave no fim, reaproveitando-o se já existir.
+     * Um esquema próprio (não compartilhado) só pertence a um objeto e é
+     * estendido no lugar.
+     */
+    EsquemaJSON comChave(String chave) {
+        if (!compartilhado) {
+            if (tamanho == chaves.length) {
+                chaves = Arrays.copyOf(chaves, Math.max(4, tamanho * 2));
+            }
+            chaves[tamanho] = chave;
+            indices.put(chave, tamanho++);
+            return this;
+        }
+        EsquemaJSON seguinte = chave != null ? transicoes.get(chave) : transicaoNula;
+        if (seguinte != null) {
+            return seguinte;
+        }
+        if (ESQUEMAS_COMPARTILHADOS.get() >= MAXIMO_DE_ESQUEMAS) {
+            return estender(chave, false);
+        }
+        if (chave == null) {
+            synchronized (this) {
+                if (transicaoNula == null) {
+                    transicaoNula = criarCompartilhado(null);
+                }
+                return transicaoNula;
+            }
+        }
+        return transicoes.computeIfAbsent(chave, this::criarCompartilhado);
+    }
+
+    private EsquemaJSON criarCompartilhado(String chave) {
+        ESQUEMAS_COMPARTILHADOS.incrementAndGet();
+        return estender(chave != null ? chave.intern() : null, true);
+    }
+
+    private EsquemaJSON estender(String chave, boolean novoCompartilhado) {
+        String[] novasChaves = Arrays.copyOf(chaves, tamanho + 1);
+        novasChaves[tamanho] = chave;
+        return new EsquemaJSON(novasChaves, tamanho + 1, novoCompartilhado);
+    }
+}
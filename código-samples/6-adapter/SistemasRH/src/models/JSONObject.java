@@ -1,36 +1,195 @@
 package models;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
 
 /**
  * Uma representação simplificada de um objeto JSON para nosso exemplo.
  * Funciona como o "Tipo Alvo" que nosso sistema moderno espera.
+ * As chaves ficam em um models.EsquemaJSON compartilhado por todos os objetos
+ * com a mesma forma; cada objeto guarda só os seus valores, na ordem de inserção.
  */
 public class JSONObject {
-    private final Map<String, Object> mapa = new LinkedHashMap<>();
+    // Espaços pré-alocados: a indentação é recortada daqui em vez de usar repeat() a cada linha.
+    private static final String ESPACOS = " ".repeat(64);
+
+    private static final Object[] SEM_VALORES = new Object[0];
+
+    private EsquemaJSON esquema = EsquemaJSON.VAZIO;
+    private Object[] valores = SEM_VALORES;
 
     public void put(String chave, Object valor) {
-        mapa.put(chave, valor);
+        int indice = esquema.indiceDe(chave);
+        if (indice < 0) {
+            // Chave nova: passa para o esquema seguinte e cresce o array em uma posição
+            // (ou dobra, se o objeto já tem um esquema só seu).
+            esquema = esquema.comChave(chave);
+            indice = esquema.tamanho() - 1;
+            if (indice >= valores.length) {
+                int capacidade = esquema.isCompartilhado() ? esquema.tamanho() : Math.max(4, valores.length * 2);
+                valores = Arrays.copyOf(valores, capacidade);
+            }
+        }
+        valores[indice] = valor;
     }
 
     public Object get(String chave) {
-        return mapa.get(chave);
+        int indice = esquema.indiceDe(chave);
+        return indice >= 0 ? valores[indice] : null;
     }
 
     // Método para imprimir o JSON de forma legível
     public String toString(int indentacao) {
-        StringBuilder sb = new StringBuilder("{\n");
-        for (Map.Entry<String, Object> entry : mapa.entrySet()) {
-            sb.append(" ".repeat(indentacao));
-            sb.append("\"").append(entry.getKey()).append("\": \"").append(entry.getValue()).append("\",\n");
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, indentacao);
+        } catch (IOException e) {
+            // StringBuilder não lança IOException.
+            throw new UncheckedIOException(e);
         }
-        // Remove a última vírgula e nova linha
-        if (!mapa.isEmpty()) {
-            sb.setLength(sb.length() - 2);
-            sb.append("\n");
-        }
-        sb.append("}");
         return sb.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Escreve o JSON diretamente no destino, sem montar uma String intermediária.
+     * Números, booleanos, null, objetos aninhados e arrays (ou Iterables) são
+     * escritos com seus tipos; qualquer outro valor vira uma string escapada.
+     */
+    public void writeTo(Appendable destino, int indentacao) throws IOException {
+        escreverObjeto(destino, this, indentacao, 0);
+    }
+
+    /**
+     * Escreve o JSON em UTF-8 no canal. O canal não é fechado.
+     */
+    public void writeTo(WritableByteChannel canal, int indentacao) throws IOException {
+        Writer writer = Channels.newWriter(canal, StandardCharsets.UTF_8);
+        writeTo(writer, indentacao);
+        writer.flush();
+    }
+
+    private static void escreverObjeto(Appendable destino, JSONObject objeto, int indentacao, int nivel) throws IOException {
+        int tamanho = objeto.esquema.tamanho();
+        if (tamanho == 0) {
+            destino.append("{}");
+            return;
+        }
+        destino.append("{\n");
+        for (int i = 0; i < tamanho; i++) {
+            if (i > 0) {
+                destino.append(",\n");
+            }
+            indentar(destino, indentacao * (nivel + 1));
+            // A chave nula sai como "null", como no toString original.
+            escreverString(destino, String.valueOf(objeto.esquema.chave(i)));
+            destino.append(": ");
+            escreverValor(destino, objeto.valores[i], indentacao, nivel + 1);
+        }
+        destino.append('\n');
+        indentar(destino, indentacao * nivel);
+        destino.append('}');
+    }
+
+    private static void escreverValor(Appendable destino, Object valor, int indentacao, int nivel) throws IOException {
+        if (valor == null) {
+            destino.append("null");
+        } else if (valor instanceof JSONObject objeto) {
+            escreverObjeto(destino, objeto, indentacao, nivel);
+        } else if (valor instanceof Boolean) {
+            destino.append(valor.toString());
+        } else if (valor instanceof Number numero && ehNumeroFinito(numero)) {
+            destino.append(numero.toString());
+        } else if (valor instanceof Iterable<?> itens) {
+            escreverArray(destino, itens, indentacao, nivel);
+        } else if (valor.getClass().isArray()) {
+            escreverArray(destino, comoIterable(valor), indentacao, nivel);
+        } else {
+            escreverString(destino, valor.toString());
+        }
+    }
+
+    private static void escreverArray(Appendable destino, Iterable<?> itens, int indentacao, int nivel) throws IOException {
+        destino.append('[');
+        boolean primeiro = true;
+        for (Object item : itens) {
+            destino.append(primeiro ? "\n" : ",\n");
+            primeiro = false;
+            indentar(destino, indentacao * (nivel + 1));
+            escreverValor(destino, item, indentacao, nivel + 1);
+        }
+        if (!primeiro) {
+            destino.append('\n');
+            indentar(destino, indentacao * nivel);
+        }
+        destino.append(']');
+    }
+
+    // Escreve a string entre aspas, copiando os trechos sem escape de uma só vez.
+    private static void escreverString(Appendable destino, String texto) throws IOException {
+        destino.append('"');
+        int inicio = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            String escape = escapeDe(c);
+            if (escape != null) {
+                destino.append(texto, inicio, i).append(escape);
+                inicio = i + 1;
+            }
+        }
+        destino.append(texto, inicio, texto.length());
+        destino.append('"');
+    }
+
+    private static String escapeDe(char c) {
+        switch (c) {
+            case '"': return "\\\"";
+            case '\\': return "\\\\";
+            case '\n': return "\\n";
+            case '\r': return "\\r";
+            case '\t': return "\\t";
+            case '\b': return "\\b";
+            case '\f': return "\\f";
+            default: return c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+        }
+    }
+
+    private static void indentar(Appendable destino, int espacos) throws IOException {
+        while (espacos > ESPACOS.length()) {
+            destino.append(ESPACOS);
+            espacos -= ESPACOS.length();
+        }
+        destino.append(ESPACOS, 0, espacos);
+    }
+
+    // NaN e infinito não existem em JSON; nesses casos o valor é escrito como string.
+    private static boolean ehNumeroFinito(Number numero) {
+        if (numero instanceof Double || numero instanceof Float) {
+            return Double.isFinite(numero.doubleValue());
+        }
+        return true;
+    }
+
+    private static Iterable<Object> comoIterable(Object array) {
+        int tamanho = Array.getLength(array);
+        return () -> new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < tamanho;
+            }
+
+            @Override
+            public Object next() {
+                return Array.get(array, i++);
+            }
+        };
+    }
+}
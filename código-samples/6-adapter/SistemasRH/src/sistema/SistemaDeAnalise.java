@@ -2,13 +2,48 @@ package sistema;
 
 import models.JSONObject;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
 /**
  * A classe "cliente" que usa os dados. Ela só entende models.JSONObject.
  */
 public class SistemaDeAnalise {
     public void processarDados(JSONObject dadosJson) {
-        System.out.println("Processando os seguintes dados no sistema novo:");
-        // Usamos o toString(4) para uma impressão formatada
-        System.out.println(dadosJson.toString(4));
+        // Usamos o toString(4) para uma impressão formatada. Um único println por registro,
+        // para que registros processados em paralelo não se misturem na saída.
+        System.out.println("Processando os seguintes dados no sistema novo:"
+                + System.lineSeparator() + dadosJson.toString(4));
+    }
+
+    // Processa vários registros à medida que chegam, sem juntá-los antes em uma lista.
+    public void processarDados(Stream<JSONObject> registros) {
+        registros.forEach(this::processarDados);
+    }
+
+    // Exporta os registros como um array JSON, escrevendo cada um direto no canal.
+    public void exportarDados(Stream<JSONObject> registros, WritableByteChannel canal) {
+        Writer writer = Channels.newWriter(canal, StandardCharsets.UTF_8);
+        try {
+            writer.write('[');
+            Iterator<JSONObject> it = registros.iterator();
+            while (it.hasNext()) {
+                writer.write('\n');
+                it.next().writeTo(writer, 4);
+                if (it.hasNext()) {
+                    writer.write(',');
+                }
+            }
+            writer.write("\n]\n");
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao exportar os dados", e);
+        }
     }
 }
\ No newline at end of file
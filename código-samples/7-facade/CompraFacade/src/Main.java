@@ -1,7 +1,12 @@
+import facade.CompraFacade;
 import model.Carrinho;
 import model.Cliente;
+import model.Compra;
+import model.ResultadoDaCompra;
 import servico.CarrinhoDeComprasService;
 
+import java.util.List;
+
 public class Main {
     public static void main(String[] args) {
         // --- Preparando os dados ---
@@ -17,5 +22,24 @@ public class Main {
 
         System.out.println("=====================================================");
         System.out.println("Status da operação: " + (sucesso ? "SUCESSO" : "FALHA"));
+
+        // --- A mesma compra, agora de forma assíncrona ---
+        System.out.println("\n=====================================================");
+        boolean sucessoAsync = servico.finalizarCompraAsync(carrinho, cliente).join();
+        System.out.println("=====================================================");
+        System.out.println("Status da operação assíncrona: " + (sucessoAsync ? "SUCESSO" : "FALHA"));
+
+        // --- Várias compras finalizadas em lote ---
+        System.out.println("\n=====================================================");
+        List<Compra> compras = List.of(
+                new Compra(carrinho, cliente),
+                new Compra(new Carrinho(89.90), new Cliente("Bruno", "bruno@email.com", "Av. Central, 45")),
+                new Compra(new Carrinho(1299.00), new Cliente("Carla", "carla@email.com", "Rua do Sol, 7")));
+        List<ResultadoDaCompra> resultados = new CompraFacade().finalizarCompras(compras);
+        System.out.println("=====================================================");
+        for (ResultadoDaCompra resultado : resultados) {
+            System.out.println(resultado.getCompra().getCliente().getNome() + ": "
+                    + (resultado.isSucesso() ? "SUCESSO (" + resultado.getCodigoRastreio() + ")" : "FALHA - " + resultado.getErro()));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package benchmark;
+
+import facade.CompraFacade;
+import model.Carrinho;
+import model.Cliente;
+import servico.CarrinhoDeComprasService;
+import subsistema.ServicoDeEmail;
+import subsistema.ServicoDeEstoque;
+import subsistema.ServicoDeLogistica;
+import subsistema.ServicoDePagamento;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Gerador de carga para o CarrinhoDeComprasService: dispara muitas compras
+ * simultâneas contra subsistemas com latência simulada e compara uma thread
+ * de plataforma por compra com uma virtual thread por compra.
+ *
+ * Execução: java benchmark.BenchmarkCheckout [compras] [latenciaMs]
+ */
+public class BenchmarkCheckout {
+
+    public static void main(String[] args) {
+        int compras = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long latenciaMs = args.length > 1 ? Long.parseLong(args[1]) : 20;
+
+        System.out.println(compras + " compras simultâneas, " + latenciaMs + " ms por subsistema");
+        executar("Thread por requisição", compras, latenciaMs,
+                Executors.newThreadPerTaskExecutor(Thread.ofPlatform().factory()));
+        executar("Virtual threads", compras, latenciaMs,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    private static void executar(String nome, int compras, long latenciaMs, ExecutorService executor) {
+        CompraFacade facade = new CompraFacade(
+                new ServicoDeEstoque(latenciaMs), new ServicoDePagamento(latenciaMs),
+                new ServicoDeLogistica(latenciaMs), new ServicoDeEmail(latenciaMs),
+                executor, executor);
+        Carrinho carrinho = new Carrinho(299.90);
+        Cliente cliente = new Cliente("Ana Paula", "ana.paula@email.com", "Rua das Flores, 123");
+        long[] latencias = new long[compras];
+
+        // Os subsistemas imprimem cada passo; durante a carga a saída é descartada.
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long inicio = System.nanoTime();
+        try (CarrinhoDeComprasService servico = new CarrinhoDeComprasService(facade, executor)) {
+            CompletableFuture<?>[] futuros = new CompletableFuture<?>[compras];
+            for (int i = 0; i < compras; i++) {
+                int indice = i;
+                long enviadaEm = System.nanoTime();
+                futuros[i] = servico.submeterCompra(carrinho, cliente)
+                        .thenRun(() -> latencias[indice] = System.nanoTime() - enviadaEm);
+            }
+            CompletableFuture.allOf(futuros).join();
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+        long duracao = System.nanoTime() - inicio;
+
+        Arrays.sort(latencias);
+        System.out.println(nome);
+        System.out.printf("  vazão: %,.0f compras/s%n", compras / (duracao / 1e9));
+        System.out.printf("  p50: %,.1f ms  p99: %,.1f ms%n",
+                latencias[compras / 2] / 1e6, latencias[(int) (compras * 0.99)] / 1e6);
+    }
+}
@@ -2,18 +2,55 @@ package facade;
 
 import model.Carrinho;
 import model.Cliente;
+import model.Compra;
+import model.ResultadoDaCompra;
 import subsistema.ServicoDeEmail;
 import subsistema.ServicoDeEstoque;
 import subsistema.ServicoDeLogistica;
 import subsistema.ServicoDePagamento;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
 // A Fachada que simplifica todo o processo de compra.
 public class CompraFacade {
+    private static final int EMAILS_POR_LOTE = 100;
+
     // 1. A fachada conhece e encapsula os subsistemas.
-    private ServicoDeEstoque estoque = new ServicoDeEstoque();
-    private ServicoDePagamento pagamento = new ServicoDePagamento();
-    private ServicoDeLogistica logistica = new ServicoDeLogistica();
-    private ServicoDeEmail email = new ServicoDeEmail();
+    private ServicoDeEstoque estoque;
+    private ServicoDePagamento pagamento;
+    private ServicoDeLogistica logistica;
+    private ServicoDeEmail email;
+
+    // Executores usados pela versão assíncrona.
+    private Executor executorSubsistemas;
+    private Executor executorEmail;
+
+    public CompraFacade() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.commonPool());
+    }
+
+    public CompraFacade(Executor executorSubsistemas, Executor executorEmail) {
+        this(new ServicoDeEstoque(), new ServicoDePagamento(), new ServicoDeLogistica(), new ServicoDeEmail(),
+                executorSubsistemas, executorEmail);
+    }
+
+    public CompraFacade(ServicoDeEstoque estoque, ServicoDePagamento pagamento, ServicoDeLogistica logistica,
+                        ServicoDeEmail email, Executor executorSubsistemas, Executor executorEmail) {
+        this.estoque = estoque;
+        this.pagamento = pagamento;
+        this.logistica = logistica;
+        this.email = email;
+        this.executorSubsistemas = executorSubsistemas;
+        this.executorEmail = executorEmail;
+    }
 
     // 2. O método da fachada é simples e direto, escondendo toda a complexidade.
     public void finalizarCompra(Carrinho carrinho, Cliente cliente) {
@@ -34,4 +71,264 @@ public class CompraFacade {
 
         System.out.println("\nCompra finalizada com sucesso via Facade!");
     }
+
+    /**
+     * Versão assíncrona da finalização. A verificação de estoque e o pagamento
+     * rodam ao mesmo tempo; o e-mail de confirmação é enviado depois, sem que a
+     * compra precise esperar por ele. O futuro devolve o código de rastreio ou
+     * falha tendo como causa a mesma RuntimeException da versão síncrona.
+     */
+    public CompletableFuture<String> finalizarCompraAsync(Carrinho carrinho, Cliente cliente) {
+        System.out.println("Iniciando processo de finalização de compra assíncrona via Facade...");
+
+        CompletableFuture<Boolean> temEstoque =
+                CompletableFuture.supplyAsync(() -> estoque.verificar(carrinho), executorSubsistemas);
+        CompletableFuture<Boolean> pagamentoAprovado =
+                CompletableFuture.supplyAsync(() -> pagamento.processar(cliente, carrinho.getTotal()), executorSubsistemas);
+
+        // Espera os dois terminarem, com sucesso ou não, e só então decide: assim um
+        // pagamento aprovado é estornado mesmo quando a verificação de estoque lança exceção.
+        CompletableFuture<String> entrega = CompletableFuture.allOf(temEstoque, pagamentoAprovado)
+                .handle((ignorado, erro) -> {
+                    Throwable erroEstoque = falhaDe(temEstoque);
+                    Throwable erroPagamento = falhaDe(pagamentoAprovado);
+                    boolean estoqueOk = erroEstoque == null && temEstoque.join();
+                    boolean pagamentoOk = erroPagamento == null && pagamentoAprovado.join();
+                    // Mesma ordem de erros da versão síncrona: estoque primeiro.
+                    if (!estoqueOk) {
+                        RuntimeException falha = erroEstoque != null
+                                ? comoRuntime(erroEstoque)
+                                : new RuntimeException("Erro: Produto fora de estoque.");
+                        if (pagamentoOk) {
+                            try {
+                                pagamento.estornar(cliente, carrinho.getTotal());
+                            } catch (RuntimeException e) {
+                                falha.addSuppressed(e);
+                            }
+                        }
+                        throw falha;
+                    }
+                    if (erroPagamento != null) {
+                        throw comoRuntime(erroPagamento);
+                    }
+                    if (!pagamentoOk) {
+                        throw new RuntimeException("Erro: Pagamento recusado.");
+                    }
+                    return true;
+                })
+                .thenApplyAsync(ok -> logistica.agendarEntrega(carrinho, cliente.getEndereco()), executorSubsistemas);
+
+        // O e-mail sai do caminho crítico: a compra termina quando a entrega é agendada.
+        entrega.thenAcceptAsync(codigoRastreio -> {
+            String corpoEmail = "Seu pedido foi processado com sucesso! Use este código para rastreá-lo: " + codigoRastreio;
+            email.enviarConfirmacao(cliente.getEmail(), "Seu Pedido foi Confirmado!", corpoEmail);
+        }, executorEmail).exceptionally(erro -> {
+            if (entrega.isCompletedExceptionally()) {
+                return null; // A compra falhou; não há e-mail para enviar.
+            }
+            System.err.println("Falha ao enviar e-mail de confirmação: " + erro.getMessage());
+            return null;
+        });
+
+        return entrega.thenApply(codigoRastreio -> {
+            System.out.println("\nCompra finalizada com sucesso via Facade (assíncrona)!");
+            return codigoRastreio;
+        });
+    }
+
+    // Exceção com que o futuro (já concluído) falhou, ou null se ele terminou normalmente.
+    private static Throwable falhaDe(CompletableFuture<?> futuro) {
+        try {
+            futuro.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause();
+        } catch (CancellationException e) {
+            return e;
+        }
+    }
+
+    private static RuntimeException comoRuntime(Throwable erro) {
+        return erro instanceof RuntimeException runtime ? runtime : new CompletionException(erro);
+    }
+
+    /**
+     * Finaliza várias compras de uma vez: o estoque de todos os carrinhos é
+     * verificado em uma só passada, os pagamentos e as entregas vão em lote para
+     * os subsistemas e os e-mails de confirmação são enviados em grupos.
+     * Cada compra tem seu próprio resultado; a falha de uma não interrompe as outras.
+     *
+     * Se a verificação de estoque ou o agendamento das entregas lançar exceção
+     * em lote, a chamada é repetida compra a compra, para que só as compras com
+     * problema falhem. O pagamento não é repetido: se o lote falhar, parte dos
+     * clientes pode já ter sido cobrada, então todas as compras do lote falham
+     * com o pagamento em situação desconhecida, sem nova cobrança nem estorno.
+     * Uma compra que falha depois de reservar estoque tem o estoque liberado e,
+     * se já estava paga, o pagamento estornado.
+     */
+    public List<ResultadoDaCompra> finalizarCompras(List<Compra> compras) {
+        System.out.println("Iniciando finalização de " + compras.size() + " compras em lote via Facade...");
+        ResultadoDaCompra[] resultados = new ResultadoDaCompra[compras.size()];
+
+        // 1. Estoque de todos os carrinhos em uma única reserva.
+        List<Integer> todas = new ArrayList<>();
+        for (int i = 0; i < compras.size(); i++) {
+            todas.add(i);
+        }
+        List<Boolean> temEstoque = chamarEmLote(todas, compras, resultados,
+                grupo -> comoLista(estoque.verificar(carrinhosDe(compras, grupo))),
+                compra -> estoque.verificar(compra.getCarrinho()));
+        List<Integer> comEstoque = aprovadas(todas, temEstoque, compras, resultados, "Erro: Produto fora de estoque.");
+
+        // 2. Pagamentos em lote, só para quem tem estoque.
+        List<Boolean> pagos = chamarEmLote(comEstoque, compras, resultados, grupo -> {
+            List<Cliente> clientes = new ArrayList<>();
+            double[] valores = new double[grupo.size()];
+            for (int i = 0; i < grupo.size(); i++) {
+                Compra compra = compras.get(grupo.get(i));
+                clientes.add(compra.getCliente());
+                valores[i] = compra.getCarrinho().getTotal();
+            }
+            return comoLista(pagamento.processar(clientes, valores));
+        }, null);
+        List<Integer> pagas = aprovadas(comEstoque, pagos, compras, resultados, "Erro: Pagamento recusado.");
+        for (int i = 0; i < comEstoque.size(); i++) {
+            if (!Boolean.TRUE.equals(pagos.get(i))) {
+                compensar(compras.get(comEstoque.get(i)), false);
+            }
+        }
+
+        // 3. Entregas agendadas em lote.
+        List<String> codigosRastreio = chamarEmLote(pagas, compras, resultados, grupo -> {
+            List<String> enderecos = new ArrayList<>();
+            for (int indice : grupo) {
+                enderecos.add(compras.get(indice).getCliente().getEndereco());
+            }
+            return Arrays.asList(logistica.agendarEntregas(carrinhosDe(compras, grupo), enderecos));
+        }, compra -> logistica.agendarEntrega(compra.getCarrinho(), compra.getCliente().getEndereco()));
+        for (int i = 0; i < pagas.size(); i++) {
+            int indice = pagas.get(i);
+            Compra compra = compras.get(indice);
+            String codigoRastreio = codigosRastreio.get(i);
+            if (codigoRastreio != null) {
+                resultados[indice] = ResultadoDaCompra.sucesso(compra, codigoRastreio);
+                continue;
+            }
+            if (resultados[indice] == null) {
+                resultados[indice] = ResultadoDaCompra.falha(compra, "Erro: Entrega não agendada.");
+            }
+            compensar(compra, true);
+        }
+
+        // 4. E-mails enfileirados e enviados em grupos; uma falha aqui não desfaz as compras.
+        List<String> destinatarios = new ArrayList<>();
+        List<String> mensagens = new ArrayList<>();
+        for (ResultadoDaCompra resultado : resultados) {
+            if (resultado.isSucesso()) {
+                destinatarios.add(resultado.getCompra().getCliente().getEmail());
+                mensagens.add("Seu pedido foi processado com sucesso! Use este código para rastreá-lo: "
+                        + resultado.getCodigoRastreio());
+            }
+        }
+        for (int inicio = 0; inicio < destinatarios.size(); inicio += EMAILS_POR_LOTE) {
+            int fim = Math.min(inicio + EMAILS_POR_LOTE, destinatarios.size());
+            try {
+                email.enviarConfirmacoes(destinatarios.subList(inicio, fim), "Seu Pedido foi Confirmado!",
+                        mensagens.subList(inicio, fim));
+            } catch (RuntimeException e) {
+                System.err.println("Falha ao enviar lote de e-mails de confirmação: " + mensagemDe(e));
+            }
+        }
+
+        System.out.println("\nLote de compras processado via Facade!");
+        return Arrays.asList(resultados);
+    }
+
+    /**
+     * Chama o subsistema para o grupo inteiro. Se a chamada em lote lançar
+     * exceção, repete compra a compra; quem falhar de novo recebe o próprio erro.
+     * Com {@code individual} nulo (operação que não pode ser repetida), todas as
+     * compras do grupo falham com o erro do lote.
+     * Devolve um valor por compra do grupo, na mesma ordem, ou null para as que falharam.
+     */
+    private static <T> List<T> chamarEmLote(List<Integer> grupo, List<Compra> compras, ResultadoDaCompra[] resultados,
+                                            Function<List<Integer>, List<T>> emLote, Function<Compra, T> individual) {
+        if (grupo.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return emLote.apply(grupo);
+        } catch (RuntimeException e) {
+            if (individual == null) {
+                System.err.println("Falha na chamada em lote (" + mensagemDe(e) + "); nenhuma compra do lote é repetida.");
+                List<T> valores = new ArrayList<>();
+                for (int indice : grupo) {
+                    resultados[indice] = ResultadoDaCompra.falha(compras.get(indice),
+                            "Erro: Situação do pagamento desconhecida (" + mensagemDe(e) + "); verifique antes de tentar de novo.");
+                    valores.add(null);
+                }
+                return valores;
+            }
+            System.err.println("Falha na chamada em lote (" + mensagemDe(e) + "); repetindo compra a compra.");
+        }
+        List<T> valores = new ArrayList<>();
+        for (int indice : grupo) {
+            Compra compra = compras.get(indice);
+            try {
+                valores.add(individual.apply(compra));
+            } catch (RuntimeException e) {
+                resultados[indice] = ResultadoDaCompra.falha(compra, mensagemDe(e));
+                valores.add(null);
+            }
+        }
+        return valores;
+    }
+
+    // Devolve as compras do grupo que foram aprovadas e registra a falha das demais (sem sobrescrever um erro já registrado).
+    private static List<Integer> aprovadas(List<Integer> grupo, List<Boolean> aprovacoes, List<Compra> compras,
+                                           ResultadoDaCompra[] resultados, String erro) {
+        List<Integer> seguintes = new ArrayList<>();
+        for (int i = 0; i < grupo.size(); i++) {
+            int indice = grupo.get(i);
+            if (Boolean.TRUE.equals(aprovacoes.get(i))) {
+                seguintes.add(indice);
+            } else if (resultados[indice] == null) {
+                resultados[indice] = ResultadoDaCompra.falha(compras.get(indice), erro);
+            }
+        }
+        return seguintes;
+    }
+
+    // Desfaz o que já foi feito para uma compra que falhou: libera o estoque e, se paga, estorna.
+    private void compensar(Compra compra, boolean estornarPagamento) {
+        try {
+            if (estornarPagamento) {
+                pagamento.estornar(compra.getCliente(), compra.getCarrinho().getTotal());
+            }
+            estoque.liberar(compra.getCarrinho());
+        } catch (RuntimeException e) {
+            System.err.println("Falha ao desfazer a compra de " + compra.getCliente().getNome() + ": " + mensagemDe(e));
+        }
+    }
+
+    // Nem toda exceção tem mensagem; o resultado da compra precisa de uma.
+    private static String mensagemDe(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : "Erro: " + e.getClass().getSimpleName();
+    }
+
+    private static List<Boolean> comoLista(boolean[] valores) {
+        List<Boolean> lista = new ArrayList<>(valores.length);
+        for (boolean valor : valores) {
+            lista.add(valor);
+        }
+        return lista;
+    }
+
+    private static List<Carrinho> carrinhosDe(List<Compra> compras, List<Integer> grupo) {
+        List<Carrinho> carrinhos = new ArrayList<>();
+        for (int indice : grupo) {
+            carrinhos.add(compras.get(indice).getCarrinho());
+        }
+        return carrinhos;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package model;
+
+// Um pedido a ser finalizado: o carrinho e quem está comprando.
+public class Compra {
+    private Carrinho carrinho;
+    private Cliente cliente;
+
+    public Compra(Carrinho carrinho, Cliente cliente) {
+        this.carrinho = carrinho;
+        this.cliente = cliente;
+    }
+
+    public Carrinho getCarrinho() { return carrinho; }
+    public Cliente getCliente() { return cliente; }
+}
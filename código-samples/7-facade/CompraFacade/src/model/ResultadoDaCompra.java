@@ -0,0 +1,31 @@
+package model;
+
+import java.util.Objects;
+
+// Resultado de uma compra finalizada em lote: código de rastreio em caso de sucesso, ou o motivo da falha.
+public class ResultadoDaCompra {
+    private Compra compra;
+    private String codigoRastreio;
+    private String erro;
+    private boolean sucesso;
+
+    private ResultadoDaCompra(Compra compra, String codigoRastreio, String erro, boolean sucesso) {
+        this.compra = compra;
+        this.codigoRastreio = codigoRastreio;
+        this.erro = erro;
+        this.sucesso = sucesso;
+    }
+
+    public static ResultadoDaCompra sucesso(Compra compra, String codigoRastreio) {
+        return new ResultadoDaCompra(compra, Objects.requireNonNull(codigoRastreio), null, true);
+    }
+
+    public static ResultadoDaCompra falha(Compra compra, String erro) {
+        return new ResultadoDaCompra(compra, null, Objects.requireNonNullElse(erro, "Erro desconhecido."), false);
+    }
+
+    public boolean isSucesso() { return sucesso; }
+    public Compra getCompra() { return compra; }
+    public String getCodigoRastreio() { return codigoRastreio; }
+    public String getErro() { return erro; }
+}
@@ -4,10 +4,36 @@ import facade.CompraFacade;
 import model.Carrinho;
 import model.Cliente;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 // O cliente agora é muito mais simples!
-public class CarrinhoDeComprasService {
+public class CarrinhoDeComprasService implements AutoCloseable {
     // A única dependência é a fachada.
-    private CompraFacade compraFacade = new CompraFacade();
+    private CompraFacade compraFacade;
+    // Executor das compras submetidas com submeterCompra (null se o serviço só for usado de forma síncrona).
+    private ExecutorService executorDeCompras;
+
+    public CarrinhoDeComprasService() {
+        this(new CompraFacade(), null);
+    }
+
+    public CarrinhoDeComprasService(CompraFacade compraFacade, ExecutorService executorDeCompras) {
+        this.compraFacade = compraFacade;
+        this.executorDeCompras = executorDeCompras;
+    }
+
+    /**
+     * Cada compra submetida roda em sua própria virtual thread. Enquanto espera
+     * pelos subsistemas a virtual thread não ocupa uma thread do sistema
+     * operacional, então dezenas de milhares de compras podem estar em
+     * andamento ao mesmo tempo sem um pool grande.
+     */
+    public static CarrinhoDeComprasService comVirtualThreads(CompraFacade compraFacade) {
+        return new CarrinhoDeComprasService(compraFacade, Executors.newVirtualThreadPerTaskExecutor());
+    }
 
     public boolean finalizarCompra(Carrinho carrinho, Cliente cliente) {
         try {
@@ -18,4 +44,31 @@ public class CarrinhoDeComprasService {
             return false;
         }
     }
+
+    public CompletableFuture<Boolean> finalizarCompraAsync(Carrinho carrinho, Cliente cliente) {
+        return compraFacade.finalizarCompraAsync(carrinho, cliente)
+                .handle((codigoRastreio, erro) -> {
+                    if (erro == null) {
+                        return true;
+                    }
+                    Throwable causa = erro instanceof CompletionException ? erro.getCause() : erro;
+                    System.err.println("\nFalha ao finalizar a compra: " + causa.getMessage());
+                    return false;
+                });
+    }
+
+    // Executa a versão síncrona de finalizarCompra no executor do serviço.
+    public CompletableFuture<Boolean> submeterCompra(Carrinho carrinho, Cliente cliente) {
+        if (executorDeCompras == null) {
+            throw new IllegalStateException("Serviço criado sem executor de compras.");
+        }
+        return CompletableFuture.supplyAsync(() -> finalizarCompra(carrinho, cliente), executorDeCompras);
+    }
+
+    @Override
+    public void close() {
+        if (executorDeCompras != null) {
+            executorDeCompras.close();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package subsistema;
+
+// Simula o tempo de resposta de um sistema externo (gateway, transportadora, servidor de e-mail).
+final class LatenciaSimulada {
+    private LatenciaSimulada() {
+    }
+
+    static void aguardar(long latenciaMs) {
+        if (latenciaMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latenciaMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Erro: Operação interrompida.", e);
+        }
+    }
+}
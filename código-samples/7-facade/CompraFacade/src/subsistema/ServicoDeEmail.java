@@ -1,9 +1,29 @@
 package subsistema;
 
+import java.util.List;
+
 public class ServicoDeEmail {
+    private final long latenciaMs;
+
+    public ServicoDeEmail() {
+        this(0);
+    }
+
+    // latenciaMs: tempo de resposta simulado de cada chamada.
+    public ServicoDeEmail(long latenciaMs) {
+        this.latenciaMs = latenciaMs;
+    }
+
     public void enviarConfirmacao(String destinatario, String titulo, String mensagem) {
         System.out.println("[Subsistema] Enviando e-mail de confirmação para: " + destinatario);
+        LatenciaSimulada.aguardar(latenciaMs);
         System.out.println("    Título: " + titulo);
         System.out.println("    Corpo: " + mensagem);
     }
+
+    // Envia o mesmo tipo de e-mail para vários destinatários em uma única conexão com o servidor.
+    public void enviarConfirmacoes(List<String> destinatarios, String titulo, List<String> mensagens) {
+        System.out.println("[Subsistema] Enviando " + destinatarios.size() + " e-mails de confirmação: " + titulo);
+        LatenciaSimulada.aguardar(latenciaMs);
+    }
 }
\ No newline at end of file
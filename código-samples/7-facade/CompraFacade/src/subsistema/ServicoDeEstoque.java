@@ -2,10 +2,39 @@ package subsistema;
 
 import model.Carrinho;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class ServicoDeEstoque {
+    private final long latenciaMs;
+
+    public ServicoDeEstoque() {
+        this(0);
+    }
+
+    // latenciaMs: tempo de resposta simulado de cada chamada.
+    public ServicoDeEstoque(long latenciaMs) {
+        this.latenciaMs = latenciaMs;
+    }
+
     public boolean verificar(Carrinho carrinho) {
         System.out.println("[Subsistema] Verificando estoque para os itens...");
+        LatenciaSimulada.aguardar(latenciaMs);
         // Lógica complexa de verificação de estoque aqui.
         return true; // Simula que há estoque.
     }
+
+    // Devolve ao estoque o que foi reservado para um carrinho cuja compra não foi concluída.
+    public void liberar(Carrinho carrinho) {
+        System.out.println("[Subsistema] Liberando estoque reservado do carrinho de R$" + carrinho.getTotal());
+    }
+
+    // Verifica e reserva o estoque de vários carrinhos em uma única passada.
+    public boolean[] verificar(List<Carrinho> carrinhos) {
+        System.out.println("[Subsistema] Verificando estoque para " + carrinhos.size() + " carrinhos...");
+        LatenciaSimulada.aguardar(latenciaMs);
+        boolean[] temEstoque = new boolean[carrinhos.size()];
+        Arrays.fill(temEstoque, true); // Simula que há estoque para todos.
+        return temEstoque;
+    }
 }
\ No newline at end of file
@@ -2,12 +2,44 @@ package subsistema;
 
 import model.Carrinho;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class ServicoDeLogistica {
+    private final long latenciaMs;
+    // Códigos de rastreio nunca se repetem, nem entre lotes diferentes.
+    private final AtomicLong proximoCodigo = new AtomicLong(123_456_789);
+
+    public ServicoDeLogistica() {
+        this(0);
+    }
+
+    // latenciaMs: tempo de resposta simulado de cada chamada.
+    public ServicoDeLogistica(long latenciaMs) {
+        this.latenciaMs = latenciaMs;
+    }
+
     public String agendarEntrega(Carrinho carrinho, String endereco) {
         System.out.println("[Subsistema] Agendando entrega para o endereço: " + endereco);
+        LatenciaSimulada.aguardar(latenciaMs);
         // Lógica de agendamento com a transportadora.
-        String codigoRastreio = "BR123456789SP";
+        String codigoRastreio = novoCodigoRastreio();
         System.out.println("[Subsistema] Entrega agendada. Código de rastreio: " + codigoRastreio);
         return codigoRastreio;
     }
+
+    // Agenda várias entregas com a transportadora de uma vez; devolve um código de rastreio por entrega.
+    public String[] agendarEntregas(List<Carrinho> carrinhos, List<String> enderecos) {
+        System.out.println("[Subsistema] Agendando " + carrinhos.size() + " entregas");
+        LatenciaSimulada.aguardar(latenciaMs);
+        String[] codigosRastreio = new String[carrinhos.size()];
+        for (int i = 0; i < codigosRastreio.length; i++) {
+            codigosRastreio[i] = novoCodigoRastreio();
+        }
+        return codigosRastreio;
+    }
+
+    private String novoCodigoRastreio() {
+        return String.format("BR%09dSP", proximoCodigo.getAndIncrement());
+    }
 }
\ No newline at end of file
@@ -2,10 +2,38 @@ package subsistema;
 
 import model.Cliente;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class ServicoDePagamento {
+    private final long latenciaMs;
+
+    public ServicoDePagamento() {
+        this(0);
+    }
+
+    // latenciaMs: tempo de resposta simulado de cada chamada.
+    public ServicoDePagamento(long latenciaMs) {
+        this.latenciaMs = latenciaMs;
+    }
+
     public boolean processar(Cliente cliente, double valor) {
         System.out.println("[Subsistema] Processando pagamento para " + cliente.getNome() + " no valor de R$" + valor);
+        LatenciaSimulada.aguardar(latenciaMs);
         // Lógica de comunicação com gateway de pagamento aqui.
         return true; // Simula que o pagamento foi aprovado.
     }
+
+    public void estornar(Cliente cliente, double valor) {
+        System.out.println("[Subsistema] Estornando pagamento de " + cliente.getNome() + " no valor de R$" + valor);
+    }
+
+    // Envia vários pagamentos ao gateway em uma única chamada; devolve a aprovação de cada um.
+    public boolean[] processar(List<Cliente> clientes, double[] valores) {
+        System.out.println("[Subsistema] Processando lote de " + clientes.size() + " pagamentos");
+        LatenciaSimulada.aguardar(latenciaMs);
+        boolean[] aprovados = new boolean[clientes.size()];
+        Arrays.fill(aprovados, true); // Simula que todos foram aprovados.
+        return aprovados;
+    }
 }
\ No newline at end of file
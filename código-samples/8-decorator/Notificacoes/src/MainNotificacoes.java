@@ -1,10 +1,18 @@
 import componentes.Notificador;
 import componentes.NotificadorEmail;
+import decoradores.NotificadorAssincronoDecorator;
+import decoradores.NotificadorDeduplicadorDecorator;
+import decoradores.NotificadorLimiteDeTaxaDecorator;
 import decoradores.NotificadorSMSDecorator;
 import decoradores.NotificadorWhatsAppDecorator;
+import despacho.DespachanteDeNotificacoes;
+import despacho.ResultadoDoCanal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class MainNotificacoes {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         String mensagem = "Sua compra foi aprovada e será enviada em breve!";
         System.out.println("Disparando notificações para a mensagem: \"" + mensagem + "\"\n");
 
@@ -33,5 +41,37 @@ public class MainNotificacoes {
         Notificador notificadoremail =  new NotificadorEmail();
         Notificador noficadorwhatsapp = new NotificadorWhatsAppDecorator(notificadoremail);
         noficadorwhatsapp.enviar(mensagem);
+
+        // --- Cenário 5: Todos os canais ao mesmo tempo ---
+        System.out.println("\n--- Cenário 5: Canais em paralelo com o despachante ---");
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            DespachanteDeNotificacoes despachante = new DespachanteDeNotificacoes(executor, 500);
+            for (ResultadoDoCanal resultado : despachante.enviar(notificadorMarketing, mensagem)) {
+                System.out.println(resultado);
+            }
+        }
+
+        // --- Cenário 6: Envio assíncrono em fila ---
+        System.out.println("\n--- Cenário 6: Envio assíncrono com fila e lotes ---");
+        NotificadorAssincronoDecorator assincrono = new NotificadorAssincronoDecorator(
+                notificadorMarketing, 1_000, 50, 20, NotificadorAssincronoDecorator.PoliticaDeFilaCheia.BLOQUEAR);
+        try (assincrono) {
+            for (int i = 1; i <= 3; i++) {
+                assincrono.enviar("Promoção relâmpago #" + i); // Retorna sem esperar os canais.
+            }
+            System.out.println("Mensagens enfileiradas; quem chamou já está livre.");
+        }
+        // Depois do close(), a fila já foi toda enviada.
+        System.out.println("Métricas: " + assincrono.getMetricas());
+
+        // --- Cenário 7: Estoque oscilando ---
+        System.out.println("\n--- Cenário 7: Sem mensagens repetidas e com limite de SMS ---");
+        // O SMS aceita 1 mensagem por segundo; mensagens idênticas em até 5 segundos são ignoradas.
+        Notificador notificadorEstoque = new NotificadorEmail();
+        notificadorEstoque = new NotificadorLimiteDeTaxaDecorator(new NotificadorSMSDecorator(notificadorEstoque), 1, 1);
+        notificadorEstoque = new NotificadorDeduplicadorDecorator(notificadorEstoque, 5_000, 10_000);
+        notificadorEstoque.enviar("Produto X voltou ao estoque!");
+        notificadorEstoque.enviar("Produto X voltou ao estoque!"); // Repetida: descartada.
+        notificadorEstoque.enviar("Produto Y voltou ao estoque!"); // Nova, mas o SMS já atingiu o limite.
     }
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package decoradores;
+
+import componentes.Notificador;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decorador assíncrono: enviar() apenas coloca a mensagem em uma fila e
+ * retorna na hora. Uma thread de trabalho retira as mensagens em lotes (até
+ * tamanhoDoLote mensagens, ou o que chegou dentro do tempo de espera) e as
+ * repassa ao notificador envolvido, de modo que um canal lento não trava
+ * quem disparou a notificação.
+ *
+ * A fila é limitada; quando está cheia, a política escolhida decide se quem
+ * envia espera, se a mensagem é descartada ou se o próprio chamador a envia.
+ */
+public final class NotificadorAssincronoDecorator extends NotificadorDecorator implements AutoCloseable {
+
+    public enum PoliticaDeFilaCheia {
+        BLOQUEAR,
+        DESCARTAR,
+        EXECUTAR_NO_CHAMADOR
+    }
+
+    private final Queue<String> fila = new ConcurrentLinkedQueue<>();
+    // Vagas livres na fila; é o que a torna limitada sem usar locks no caminho comum.
+    private final Semaphore vagas;
+    private final AtomicInteger profundidade = new AtomicInteger();
+    // Chamadas a enviar() em andamento: a thread de trabalho só termina quando não há nenhuma.
+    private final AtomicInteger enviosEmAndamento = new AtomicInteger();
+    private final int tamanhoDoLote;
+    private final long esperaDoLoteNanos;
+    private final PoliticaDeFilaCheia politica;
+    private final Metricas metricas = new Metricas();
+    private final Thread trabalhador;
+    private volatile boolean encerrado;
+
+    public NotificadorAssincronoDecorator(Notificador notificador, int capacidade, int tamanhoDoLote,
+                                          long esperaDoLoteMs, PoliticaDeFilaCheia politica) {
+        super(notificador);
+        if (capacidade <= 0 || tamanhoDoLote <= 0) {
+            throw new IllegalArgumentException("Capacidade e tamanho do lote devem ser positivos.");
+        }
+        if (esperaDoLoteMs < 0) {
+            throw new IllegalArgumentException("A espera do lote não pode ser negativa.");
+        }
+        if (politica == null) {
+            throw new IllegalArgumentException("A política de fila cheia é obrigatória.");
+        }
+        this.vagas = new Semaphore(capacidade);
+        this.tamanhoDoLote = tamanhoDoLote;
+        this.esperaDoLoteNanos = TimeUnit.MILLISECONDS.toNanos(esperaDoLoteMs);
+        this.politica = politica;
+        this.trabalhador = new Thread(this::drenar, "notificador-assincrono");
+        this.trabalhador.setDaemon(true);
+        this.trabalhador.start();
+    }
+
+    @Override
+    public void enviar(String mensagem) {
+        // Registra-se antes de olhar 'encerrado': se o close() veio depois, a thread de
+        // trabalho vê este envio em andamento e espera a mensagem chegar à fila.
+        enviosEmAndamento.incrementAndGet();
+        try {
+            enfileirar(mensagem);
+        } finally {
+            if (enviosEmAndamento.decrementAndGet() == 0 && encerrado) {
+                LockSupport.unpark(trabalhador);
+            }
+        }
+    }
+
+    private void enfileirar(String mensagem) {
+        if (encerrado) {
+            throw new IllegalStateException("Notificador assíncrono encerrado.");
+        }
+        if (!vagas.tryAcquire()) {
+            switch (politica) {
+                case BLOQUEAR -> vagas.acquireUninterruptibly();
+                case DESCARTAR -> {
+                    metricas.descartadas.increment();
+                    return;
+                }
+                case EXECUTAR_NO_CHAMADOR -> {
+                    enviarAgora(mensagem);
+                    return;
+                }
+            }
+        }
+        fila.offer(mensagem);
+        // Só acorda a thread de trabalho quando a fila estava vazia.
+        if (profundidade.getAndIncrement() == 0) {
+            LockSupport.unpark(trabalhador);
+        }
+    }
+
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * Para de aceitar mensagens, envia o que ainda está na fila (inclusive o que
+     * chamadas a enviar() já em andamento colocarem nela) e encerra a thread de
+     * trabalho. Se a thread que fecha for interrompida, para de esperar e
+     * mantém a interrupção marcada.
+     */
+    @Override
+    public void close() {
+        encerrado = true;
+        LockSupport.unpark(trabalhador);
+        try {
+            trabalhador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drenar() {
+        List<String> lote = new ArrayList<>(tamanhoDoLote);
+        long prazoDoLote = 0;
+        while (true) {
+            String mensagem = fila.poll();
+            if (mensagem != null) {
+                profundidade.decrementAndGet();
+                vagas.release();
+                if (lote.isEmpty()) {
+                    prazoDoLote = System.nanoTime() + esperaDoLoteNanos;
+                }
+                lote.add(mensagem);
+                if (lote.size() >= tamanhoDoLote) {
+                    enviarLote(lote);
+                }
+                continue;
+            }
+
+            // Nesta ordem: um envio em andamento termina de enfileirar antes de sair da contagem.
+            if (encerrado && enviosEmAndamento.get() == 0 && fila.isEmpty()) {
+                enviarLote(lote);
+                return;
+            }
+            if (lote.isEmpty()) {
+                LockSupport.park(this);
+            } else {
+                long restante = prazoDoLote - System.nanoTime();
+                if (restante <= 0) {
+                    enviarLote(lote);
+                } else {
+                    LockSupport.parkNanos(this, restante);
+                }
+            }
+        }
+    }
+
+    private void enviarLote(List<String> lote) {
+        for (String mensagem : lote) {
+            enviarAgora(mensagem);
+        }
+        lote.clear();
+    }
+
+    private void enviarAgora(String mensagem) {
+        long inicio = System.nanoTime();
+        try {
+            super.enviar(mensagem);
+            metricas.enviadas.increment();
+        } catch (RuntimeException e) {
+            metricas.falhas.increment();
+            System.err.println("Falha ao enviar notificação: " + e.getMessage());
+        } finally {
+            metricas.tempoDeEnvioNanos.add(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Números da fila, para acompanhamento. Os contadores usam LongAdder para
+     * não disputar a mesma variável entre quem envia e a thread de trabalho.
+     */
+    public class Metricas {
+        private final long criadoEm = System.nanoTime();
+        private final LongAdder enviadas = new LongAdder();
+        private final LongAdder descartadas = new LongAdder();
+        private final LongAdder falhas = new LongAdder();
+        private final LongAdder tempoDeEnvioNanos = new LongAdder();
+
+        public int getProfundidadeDaFila() {
+            return profundidade.get();
+        }
+
+        public long getEnviadas() {
+            return enviadas.sum();
+        }
+
+        public long getDescartadas() {
+            return descartadas.sum();
+        }
+
+        public long getFalhas() {
+            return falhas.sum();
+        }
+
+        public double getVazaoPorSegundo() {
+            double segundos = (System.nanoTime() - criadoEm) / 1e9;
+            return segundos > 0 ? enviadas.sum() / segundos : 0;
+        }
+
+        public double getLatenciaMediaDeEnvioMs() {
+            long total = enviadas.sum() + falhas.sum();
+            return total > 0 ? tempoDeEnvioNanos.sum() / 1e6 / total : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("fila=%d enviadas=%d descartadas=%d falhas=%d vazão=%.1f/s latência média=%.3f ms",
+                    getProfundidadeDaFila(), getEnviadas(), getDescartadas(), getFalhas(),
+                    getVazaoPorSegundo(), getLatenciaMediaDeEnvioMs());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package decoradores;
+
+import componentes.Notificador;
+
+/**
+ * Decorador de canal: acrescenta um novo canal de envio à cadeia.
+ * O envio pelo próprio canal fica separado em enviarNoCanal(), para que a
+ * cadeia possa ser "achatada" e os canais disparados ao mesmo tempo.
+ */
+public abstract class NotificadorCanalDecorator extends NotificadorDecorator {
+    public NotificadorCanalDecorator(Notificador notificador) {
+        super(notificador);
+    }
+
+    @Override
+    public void enviar(String mensagem) {
+        super.enviar(mensagem); // 1. Chama o método do objeto decorado
+        enviarNoCanal(mensagem); // 2. Adiciona sua própria funcionalidade
+    }
+
+    // Envia apenas pelo canal deste decorador, sem passar pelo objeto envolvido.
+    public abstract void enviarNoCanal(String mensagem);
+}
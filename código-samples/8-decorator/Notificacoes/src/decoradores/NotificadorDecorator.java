@@ -13,6 +13,10 @@ public abstract class NotificadorDecorator implements Notificador {
         this.notificadorEnvolvido = notificador;
     }
 
+    public Notificador getNotificadorEnvolvido() {
+        return notificadorEnvolvido;
+    }
+
     // Por padrão, o decorador delega a chamada para o objeto que ele envolve.
     @Override
     public void enviar(String mensagem) {
@@ -0,0 +1,89 @@
+package decoradores;
+
+import componentes.Notificador;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorador que descarta mensagens idênticas repetidas dentro de uma janela
+ * de tempo: só a primeira segue para o notificador envolvido. Útil quando o
+ * estoque "oscila" e a mesma notificação é disparada várias vezes por segundo.
+ *
+ * As mensagens vistas ficam em um conjunto limitado: as mais antigas saem
+ * quando a janela expira ou quando a capacidade é atingida. Uma mensagem
+ * cujo envio falhou não conta como vista.
+ */
+public class NotificadorDeduplicadorDecorator extends NotificadorDecorator {
+    private final long janelaNanos;
+    private final int capacidade;
+    // Mensagem -> instante em que foi enviada pela última vez.
+    private final Map<String, Long> enviadas = new ConcurrentHashMap<>();
+    // Mesmas mensagens, na ordem de envio, para remover as mais antigas sem percorrer o mapa.
+    private final Queue<Envio> ordemDeEnvio = new ConcurrentLinkedQueue<>();
+
+    public NotificadorDeduplicadorDecorator(Notificador notificador, long janelaMs, int capacidade) {
+        super(notificador);
+        if (janelaMs <= 0 || capacidade <= 0) {
+            throw new IllegalArgumentException("A janela e a capacidade devem ser positivas.");
+        }
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        this.capacidade = capacidade;
+    }
+
+    @Override
+    public void enviar(String mensagem) {
+        // A mensagem é a chave da deduplicação; sem ela não há o que comparar.
+        if (mensagem == null) {
+            throw new IllegalArgumentException("A mensagem não pode ser nula.");
+        }
+        long agora = System.nanoTime();
+        removerAntigas(agora);
+
+        boolean[] nova = {false};
+        enviadas.compute(mensagem, (chave, enviadaEm) -> {
+            if (enviadaEm != null && agora - enviadaEm < janelaNanos) {
+                return enviadaEm; // Repetida dentro da janela.
+            }
+            nova[0] = true;
+            return agora;
+        });
+
+        if (!nova[0]) {
+            return;
+        }
+        // O registro acima só reserva a mensagem contra envios simultâneos; se o envio
+        // falhar, ela volta a não ter sido vista e uma nova tentativa não é descartada.
+        try {
+            super.enviar(mensagem);
+        } catch (RuntimeException e) {
+            enviadas.remove(mensagem, agora);
+            throw e;
+        }
+        ordemDeEnvio.offer(new Envio(mensagem, agora));
+    }
+
+    private void removerAntigas(long agora) {
+        Envio maisAntigo;
+        while ((maisAntigo = ordemDeEnvio.peek()) != null
+                && (agora - maisAntigo.instante >= janelaNanos || enviadas.size() > capacidade)) {
+            if (ordemDeEnvio.remove(maisAntigo)) {
+                // Só remove se a mensagem não foi reenviada depois deste registro.
+                enviadas.remove(maisAntigo.mensagem, maisAntigo.instante);
+            }
+        }
+    }
+
+    private static class Envio {
+        private final String mensagem;
+        private final Long instante;
+
+        Envio(String mensagem, long instante) {
+            this.mensagem = mensagem;
+            this.instante = instante;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package decoradores;
+
+import componentes.Notificador;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador que limita a taxa de envio de um único canal (balde de fichas):
+ * permite até 'rajada' mensagens seguidas e, depois, 'mensagensPorSegundo'.
+ * O que passa do limite é descartado e contado, em vez de ser recusado pelo
+ * provedor.
+ *
+ * Ele envolve um decorador de canal (ou um componente concreto) e limita só
+ * o canal dele; o restante da cadeia continua recebendo todas as mensagens.
+ * Por ser ele próprio um decorador de canal, a cadeia continua podendo ser
+ * achatada pelo despachante.
+ */
+public class NotificadorLimiteDeTaxaDecorator extends NotificadorCanalDecorator {
+    private final Notificador canal;
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    // Instante teórico em que o balde estaria cheio de novo; atualizado só com CAS, sem locks.
+    private final AtomicLong baldeCheioEm = new AtomicLong(System.nanoTime());
+    private final LongAdder descartadas = new LongAdder();
+
+    public NotificadorLimiteDeTaxaDecorator(Notificador notificador, double mensagensPorSegundo, int rajada) {
+        super(restoDaCadeia(notificador));
+        if (!(mensagensPorSegundo > 0) || Double.isInfinite(mensagensPorSegundo)) {
+            throw new IllegalArgumentException("A taxa deve ser um número positivo de mensagens por segundo.");
+        }
+        if (rajada < 1) {
+            throw new IllegalArgumentException("A rajada deve permitir ao menos uma mensagem.");
+        }
+        this.canal = notificador instanceof NotificadorCanalDecorator decorador ? decorador::enviarNoCanal : notificador;
+        this.intervaloNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / mensagensPorSegundo));
+        this.toleranciaNanos = intervaloNanos > Long.MAX_VALUE / rajada ? Long.MAX_VALUE : intervaloNanos * rajada;
+    }
+
+    @Override
+    public void enviarNoCanal(String mensagem) {
+        if (tentarConsumirFicha()) {
+            canal.enviar(mensagem);
+        } else {
+            descartadas.increment();
+        }
+    }
+
+    public long getDescartadas() {
+        return descartadas.sum();
+    }
+
+    private boolean tentarConsumirFicha() {
+        while (true) {
+            long agora = System.nanoTime();
+            long cheioEm = baldeCheioEm.get();
+            long novoCheioEm = Math.max(cheioEm, agora) + intervaloNanos;
+            if (novoCheioEm - agora > toleranciaNanos) {
+                return false; // Balde vazio.
+            }
+            if (baldeCheioEm.compareAndSet(cheioEm, novoCheioEm)) {
+                return true;
+            }
+        }
+    }
+
+    // Se o notificador é um decorador de canal, o restante da cadeia é o que ele envolve;
+    // se é um componente concreto, ele próprio é o canal e não há mais nada abaixo dele.
+    // Outros decoradores não são um canal: limitá-los limitaria a cadeia inteira.
+    private static Notificador restoDaCadeia(Notificador notificador) {
+        if (notificador instanceof NotificadorCanalDecorator decorador) {
+            return decorador.getNotificadorEnvolvido();
+        }
+        if (notificador instanceof NotificadorDecorator) {
+            throw new IllegalArgumentException("O limite de taxa deve envolver um canal, não "
+                    + notificador.getClass().getSimpleName() + ".");
+        }
+        if (notificador == null) {
+            throw new IllegalArgumentException("O canal não pode ser nulo.");
+        }
+        return mensagem -> { };
+    }
+}
@@ -0,0 +1,105 @@
+package despacho;
+
+import componentes.Notificador;
+import decoradores.NotificadorCanalDecorator;
+import decoradores.NotificadorDecorator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Despachante que "achata" uma cadeia de decoradores em uma lista de canais
+ * e envia a mensagem por todos eles ao mesmo tempo. A latência total passa a
+ * ser a do canal mais lento, e não a soma de todos, e a pilha de chamadas
+ * não cresce com o número de decoradores.
+ *
+ * Cada canal tem um tempo limite próprio: um canal lento é registrado como
+ * falha no resultado, sem atrasar os demais.
+ */
+public class DespachanteDeNotificacoes {
+    private final Executor executor;
+    private final long timeoutPorCanalMs;
+
+    public DespachanteDeNotificacoes(Executor executor, long timeoutPorCanalMs) {
+        this.executor = executor;
+        this.timeoutPorCanalMs = timeoutPorCanalMs;
+    }
+
+    /**
+     * Separa a cadeia em canais, na ordem em que a cadeia original enviaria.
+     * Um decorador que não é de canal (e tudo o que ele envolve) vira um único
+     * canal, para que seu comportamento continue valendo.
+     */
+    public static List<Canal> canais(Notificador cadeia) {
+        List<Canal> canais = new ArrayList<>();
+        Notificador atual = cadeia;
+        while (atual instanceof NotificadorCanalDecorator decorador) {
+            canais.add(new Canal(nomeDe(decorador), decorador::enviarNoCanal));
+            atual = decorador.getNotificadorEnvolvido();
+        }
+        canais.add(new Canal(nomeDe(atual), atual::enviar));
+        Collections.reverse(canais);
+        return canais;
+    }
+
+    public List<ResultadoDoCanal> enviar(Notificador cadeia, String mensagem) {
+        List<Canal> canais = canais(cadeia);
+        List<CompletableFuture<ResultadoDoCanal>> envios = new ArrayList<>();
+        for (Canal canal : canais) {
+            envios.add(enviarNoCanal(canal, mensagem));
+        }
+
+        List<ResultadoDoCanal> resultados = new ArrayList<>();
+        for (CompletableFuture<ResultadoDoCanal> envio : envios) {
+            resultados.add(envio.join());
+        }
+        return resultados;
+    }
+
+    private CompletableFuture<ResultadoDoCanal> enviarNoCanal(Canal canal, String mensagem) {
+        long inicio = System.nanoTime();
+        return CompletableFuture.runAsync(() -> canal.envio.enviar(mensagem), executor)
+                .orTimeout(timeoutPorCanalMs, TimeUnit.MILLISECONDS)
+                .handle((ok, erro) -> new ResultadoDoCanal(canal.nome, descricaoDo(erro),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)));
+    }
+
+    private static String descricaoDo(Throwable erro) {
+        if (erro == null) {
+            return null;
+        }
+        Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+        if (causa instanceof TimeoutException) {
+            return "tempo limite excedido";
+        }
+        return causa.getMessage() != null ? causa.getMessage() : causa.getClass().getSimpleName();
+    }
+
+    private static String nomeDe(Notificador notificador) {
+        if (notificador instanceof NotificadorDecorator && !(notificador instanceof NotificadorCanalDecorator)) {
+            return notificador.getClass().getSimpleName() + " (cadeia)";
+        }
+        return notificador.getClass().getSimpleName();
+    }
+
+    /**
+     * Um canal da cadeia: seu nome e a ação que envia só por ele.
+     */
+    public static class Canal {
+        private final String nome;
+        private final Notificador envio;
+
+        Canal(String nome, Notificador envio) {
+            this.nome = nome;
+            this.envio = envio;
+        }
+
+        public String getNome() { return nome; }
+    }
+}
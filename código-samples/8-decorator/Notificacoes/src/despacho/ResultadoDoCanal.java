@@ -0,0 +1,26 @@
+package despacho;
+
+/**
+ * Resultado do envio de uma mensagem por um canal.
+ */
+public class ResultadoDoCanal {
+    private final String canal;
+    private final String erro;
+    private final long duracaoMs;
+
+    public ResultadoDoCanal(String canal, String erro, long duracaoMs) {
+        this.canal = canal;
+        this.erro = erro;
+        this.duracaoMs = duracaoMs;
+    }
+
+    public String getCanal() { return canal; }
+    public boolean isSucesso() { return erro == null; }
+    public String getErro() { return erro; }
+    public long getDuracaoMs() { return duracaoMs; }
+
+    @Override
+    public String toString() {
+        return canal + ": " + (isSucesso() ? "enviado" : "falhou (" + erro + ")") + " em " + duracaoMs + " ms";
+    }
+}